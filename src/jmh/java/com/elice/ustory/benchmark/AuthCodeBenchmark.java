@@ -0,0 +1,44 @@
+package com.elice.ustory.benchmark;
+
+import com.elice.ustory.global.util.AuthCodeGenerator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원가입 요청이 몰릴 때 인증 코드 생성 처리량을 측정합니다.
+ * 모든 스레드가 같은 생성기를 호출하도록 가용 코어 수만큼 스레드를 띄우며,
+ * 이전 구현(호출마다 Random 생성 + IntStream filter)을 기준선으로 함께 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(Threads.MAX)
+public class AuthCodeBenchmark {
+
+    @Benchmark
+    public String generate() {
+        return AuthCodeGenerator.generate();
+    }
+
+    @Benchmark
+    public String baselineRandomStream() {
+        int leftLimit = 48; // 숫자 '0'의 ASCII 코드
+        int rightLimit = 122; // 알파벳 'z'의 ASCII 코드
+        int stringLength = 6;
+        Random random = new Random();
+
+        return random.ints(leftLimit, rightLimit + 1)
+                .filter(i -> (i < 57 || i >= 65) && (i <= 90 || i >= 97))
+                .limit(stringLength)
+                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append)
+                .toString();
+    }
+}
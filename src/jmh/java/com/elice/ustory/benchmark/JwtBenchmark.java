@@ -0,0 +1,63 @@
+package com.elice.ustory.benchmark;
+
+import com.elice.ustory.global.jwt.JwtTokenProvider;
+import com.elice.ustory.global.jwt.JwtUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 모든 인증 요청에서 실행되는 AccessToken 발급/검증 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtBenchmark {
+
+    private static final String SALT = "benchmark-salt-benchmark-salt-benchmark-salt";
+
+    private JwtTokenProvider jwtTokenProvider;
+    private JwtUtil jwtUtil;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtTokenProvider = new JwtTokenProvider();
+
+        Field salt = ReflectionUtils.findField(JwtTokenProvider.class, "salt");
+        ReflectionUtils.makeAccessible(salt);
+        ReflectionUtils.setField(salt, jwtTokenProvider, SALT);
+
+        Method init = ReflectionUtils.findMethod(JwtTokenProvider.class, "init");
+        ReflectionUtils.makeAccessible(init);
+        ReflectionUtils.invokeMethod(init, jwtTokenProvider);
+
+        // validateToken은 JwtTokenProvider만 사용한다
+        jwtUtil = new JwtUtil(jwtTokenProvider, null, null, null);
+        accessToken = jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return jwtTokenProvider.createAccessToken(1L);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(accessToken);
+    }
+
+    @Benchmark
+    public Long getUserPk() {
+        return jwtUtil.getUserPk(accessToken);
+    }
+}
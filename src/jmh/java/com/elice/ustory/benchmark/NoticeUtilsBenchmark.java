@@ -0,0 +1,49 @@
+package com.elice.ustory.benchmark;
+
+import com.elice.ustory.domain.notice.dto.NoticeRequest;
+import com.elice.ustory.global.util.NoticeUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 알림 메시지 생성 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NoticeUtilsBenchmark {
+
+    private NoticeRequest friendRequest;
+    private NoticeRequest friendAccept;
+
+    @Setup
+    public void setUp() {
+        friendRequest = NoticeRequest.builder()
+                .senderId(1L)
+                .responseId(2L)
+                .messageType(1)
+                .build();
+        friendAccept = NoticeRequest.builder()
+                .senderId(1L)
+                .responseId(2L)
+                .messageType(3)
+                .build();
+    }
+
+    @Benchmark
+    public String generateMessage() {
+        return NoticeUtils.generateMessage(friendRequest);
+    }
+
+    @Benchmark
+    public String generateFriendAcceptMessage() {
+        return NoticeUtils.generateMessage(friendAccept, "껌냥이");
+    }
+}
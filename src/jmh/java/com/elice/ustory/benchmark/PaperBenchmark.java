@@ -0,0 +1,88 @@
+package com.elice.ustory.benchmark;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.image.Image;
+import com.elice.ustory.domain.paper.dto.PaperResponse;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.util.InputValidator;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 페이퍼 생성/수정 시의 입력값 검증과 상세 조회 응답 변환 비용을 측정합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class PaperBenchmark {
+
+    private static final String TITLE = "우규 갔다왔어요! (2024)";
+    private static final String TITLE_REGEX = "^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`]+$";
+    private static final String THUMBNAIL_URL = "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/images/thumbnail.jpg";
+
+    private Paper paper;
+
+    @Setup
+    public void setUp() {
+        Users writer = Users.addUserBuilder()
+                .email("writer@ustory.me")
+                .loginType(Users.LoginType.BASIC)
+                .name("작성자")
+                .nickname("writer")
+                .build();
+        Field id = ReflectionUtils.findField(Users.class, "id");
+        ReflectionUtils.makeAccessible(id);
+        ReflectionUtils.setField(id, writer, 1L);
+
+        paper = createPaper();
+        paper.addWriter(writer);
+        paper.addDiary(new Diary("껌냥이들", THUMBNAIL_URL, null, "다이어리 설명", null));
+        paper.setAddress(Address.createBuilder()
+                .city("서울특별시 마포구 독막로3길 21")
+                .store("우규")
+                .coordinateX(37.5494)
+                .coordinateY(126.9169)
+                .build());
+        for (int i = 0; i < 5; i++) {
+            new Image("https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/images/" + i + ".png", i).setPaper(paper);
+        }
+        paper.unLock();
+    }
+
+    @Benchmark
+    public Paper createPaper() {
+        return Paper.createBuilder()
+                .title(TITLE)
+                .thumbnailImageUrl(THUMBNAIL_URL)
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+    }
+
+    /** 이전 방식(String.matches)과 비교하기 위한 기준값 */
+    @Benchmark
+    public boolean titleRegex() {
+        return TITLE.matches(TITLE_REGEX);
+    }
+
+    @Benchmark
+    public boolean titleScanner() {
+        return InputValidator.isTitle(TITLE);
+    }
+
+    @Benchmark
+    public PaperResponse toPaperResponse() {
+        return new PaperResponse(paper, true, 1L);
+    }
+}
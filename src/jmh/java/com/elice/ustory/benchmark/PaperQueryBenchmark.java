@@ -0,0 +1,80 @@
+package com.elice.ustory.benchmark;
+
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.paper.repository.PaperQueryDslRepositoryImpl;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PaperQueryDslRepositoryImpl의 QueryDSL 쿼리 생성부터 실행까지의 비용을 인메모리 H2에서 측정합니다.
+ * 테이블은 비어 있으므로 DB 조회보다는 쿼리 생성과 JPQL/SQL 변환 비용이 대부분을 차지합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class PaperQueryBenchmark {
+
+    private EntityManagerFactory entityManagerFactory;
+    private EntityManager entityManager;
+    private PaperQueryDslRepositoryImpl paperRepository;
+    private Pageable pageable;
+    private LocalDateTime requestTime;
+
+    @Setup
+    public void setUp() {
+        LocalContainerEntityManagerFactoryBean factoryBean = new LocalContainerEntityManagerFactoryBean();
+        factoryBean.setDataSource(new DriverManagerDataSource("jdbc:h2:mem:benchmark;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        factoryBean.setPackagesToScan("com.elice.ustory");
+        factoryBean.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factoryBean.setJpaPropertyMap(Map.of("hibernate.hbm2ddl.auto", "create"));
+        factoryBean.afterPropertiesSet();
+
+        entityManagerFactory = factoryBean.getObject();
+        entityManager = entityManagerFactory.createEntityManager();
+        paperRepository = new PaperQueryDslRepositoryImpl(new JPAQueryFactory(entityManager));
+        pageable = PageRequest.of(0, 20);
+        requestTime = LocalDateTime.now();
+    }
+
+    @TearDown
+    public void tearDown() {
+        entityManager.close();
+        entityManagerFactory.close();
+    }
+
+    @Benchmark
+    public List<Paper> findAllByDiaryIdAndDateRange() {
+        return paperRepository.findAllByDiaryIdAndDateRange(1L, requestTime, pageable,
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 12, 31));
+    }
+
+    @Benchmark
+    public List<Paper> findByWriterId() {
+        return paperRepository.findByWriterId(1L, requestTime, pageable);
+    }
+
+    @Benchmark
+    public List<Paper> findAllPapersByUserId() {
+        return paperRepository.findAllPapersByUserId(1L);
+    }
+}
@@ -0,0 +1,392 @@
+package com.elice.ustory.loadtest;
+
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * 부하 테스트용 데이터를 JDBC 배치 INSERT로 생성합니다.
+ * 스키마는 애플리케이션을 한 번 실행해(ddl-auto) 미리 만들어 두어야 하며, 기존 데이터의 최대 id 다음부터 추가합니다.
+ *
+ * <pre>
+ * ./gradlew seedData --args="--url=jdbc:mysql://localhost:3306/ustory?rewriteBatchedStatements=true --username=root --password=root --users=10000"
+ * </pre>
+ *
+ * 생성된 사용자는 load{번호}@ustory.me / {@code --user-password} 값으로 로그인할 수 있습니다.
+ * MySQL은 rewriteBatchedStatements=true 를 붙여야 배치가 하나의 INSERT로 전송됩니다.
+ */
+public class DataSeeder {
+
+    private static final String[] CATEGORIES = {"COUPLE", "FAMILY", "FRIEND", "US"};
+    private static final String[] COLORS = {"RED", "ORANGE", "YELLOW", "GREEN", "BLUE", "INDIGO", "PURPLE", "BLACK", "GRAY", "WHITE"};
+    private static final String IMAGE_URL_FORMAT = "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/images/load-%d-%d.jpg";
+
+    private final Connection connection;
+    private final Map<String, String> options;
+    private final Random random;
+    private final int batchSize;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    public DataSeeder(Connection connection, Map<String, String> options) {
+        this.connection = connection;
+        this.options = options;
+        this.random = new Random(intOption("seed", 42));
+        this.batchSize = intOption("batch-size", 1000);
+    }
+
+    public static void main(String[] args) throws SQLException {
+        Map<String, String> options = parseOptions(args);
+        String url = options.get("url");
+        if (url == null) {
+            System.out.println("--url 옵션으로 데이터를 생성할 DB를 지정해주세요. (예: jdbc:h2:tcp://localhost/~/ustory, jdbc:mysql://localhost:3306/ustory)");
+            return;
+        }
+
+        try (Connection connection = DriverManager.getConnection(url,
+                options.getOrDefault("username", "sa"), options.getOrDefault("password", ""))) {
+            connection.setAutoCommit(false);
+            new DataSeeder(connection, options).seed(url.startsWith("jdbc:h2:"));
+        }
+    }
+
+    static Map<String, String> parseOptions(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                int equal = arg.indexOf('=');
+                options.put(arg.substring(2, equal), arg.substring(equal + 1));
+            }
+        }
+        return options;
+    }
+
+    public void seed(boolean h2) throws SQLException {
+        int userCount = intOption("users", 1000);
+        int friendsPerUser = intOption("friends-per-user", 10);
+        int diariesPerUser = intOption("diaries-per-user", 2);
+        int membersPerDiary = intOption("members-per-diary", 4);
+        int papersPerDiary = intOption("papers-per-diary", 30);
+        int imagesPerPaper = intOption("images-per-paper", 3);
+        int commentsPerPaper = intOption("comments-per-paper", 3);
+        int bookmarksPerUser = intOption("bookmarks-per-user", 20);
+        int noticesPerUser = intOption("notices-per-user", 20);
+
+        long userBase = nextId("users", "id");
+        long diaryBase = nextId("diary", "id");
+        long paperBase = nextId("paper", "id");
+        long addressBase = nextId("address", "id");
+        long imageBase = nextId("image", "id");
+        long commentBase = nextId("comment", "id");
+        long noticeBase = nextId("notice", "id");
+
+        long started = System.currentTimeMillis();
+
+        insertUsers(userBase, userCount);
+        insertFriends(userBase, userCount, friendsPerUser);
+
+        int diaryCount = userCount * diariesPerUser;
+        insertDiaries(diaryBase, diaryCount);
+        insertDiaryUsers(diaryBase, diaryCount, userBase, userCount, diariesPerUser, membersPerDiary);
+
+        long paperCount = (long) diaryCount * papersPerDiary;
+        insertPapers(paperBase, addressBase, paperCount, papersPerDiary, diaryBase, diariesPerUser, userBase, userCount, membersPerDiary);
+        insertImages(imageBase, paperBase, paperCount, imagesPerPaper);
+        insertComments(commentBase, paperBase, paperCount, commentsPerPaper, userBase, userCount);
+        insertBookmarks(userBase, userCount, paperBase, paperCount, bookmarksPerUser);
+        insertNotices(noticeBase, userBase, userCount, noticesPerUser);
+
+        if (h2) {
+            // H2는 id를 직접 넣어도 IDENTITY 값이 증가하지 않으므로 다음 값을 맞춰준다
+            for (String table : List.of("users", "diary", "paper", "address", "image", "comment", "notice")) {
+                restartIdentity(table);
+            }
+        }
+
+        System.out.printf("users=%d, diaries=%d, papers=%d 생성 완료 (%d ms)%n",
+                userCount, diaryCount, paperCount, System.currentTimeMillis() - started);
+    }
+
+    private void insertUsers(long userBase, int userCount) throws SQLException {
+        String encodedPassword = PasswordEncoderFactories.createDelegatingPasswordEncoder()
+                .encode(options.getOrDefault("user-password", "ustory1234!"));
+
+        try (Batch batch = new Batch("INSERT INTO users (id, login_type, email, name, nickname, password, profile_img_url, " +
+                "profile_description, created_at, updated_at) VALUES (?, 'BASIC', ?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < userCount; i++) {
+                long userId = userBase + i;
+                PreparedStatement statement = batch.statement();
+                statement.setLong(1, userId);
+                statement.setString(2, "load" + userId + "@ustory.me");
+                statement.setString(3, "부하테스트");
+                statement.setString(4, "load" + userId);
+                statement.setString(5, encodedPassword);
+                statement.setString(6, String.format(IMAGE_URL_FORMAT, 0, userId));
+                statement.setString(7, "부하 테스트 사용자");
+                setTimestamps(statement, 8, randomPast());
+                batch.add();
+            }
+        }
+    }
+
+    /** 사용자 i와 i+1 ~ i+(friendsPerUser/2)를 양방향 친구로 연결 */
+    private void insertFriends(long userBase, int userCount, int friendsPerUser) throws SQLException {
+        int half = Math.min(friendsPerUser / 2, (userCount - 1) / 2);
+
+        try (Batch batch = new Batch("INSERT INTO friend (user_id, friend_id, invited_at, accepted_at, status) " +
+                "VALUES (?, ?, ?, ?, 'ACCEPTED')")) {
+            for (int i = 0; i < userCount; i++) {
+                for (int k = 1; k <= half; k++) {
+                    long userId = userBase + i;
+                    long friendId = userBase + (i + k) % userCount;
+                    Timestamp acceptedAt = Timestamp.valueOf(randomPast());
+                    addFriend(batch, userId, friendId, acceptedAt);
+                    addFriend(batch, friendId, userId, acceptedAt);
+                }
+            }
+        }
+    }
+
+    private void addFriend(Batch batch, long userId, long friendId, Timestamp acceptedAt) throws SQLException {
+        PreparedStatement statement = batch.statement();
+        statement.setLong(1, userId);
+        statement.setLong(2, friendId);
+        statement.setTimestamp(3, acceptedAt);
+        statement.setTimestamp(4, acceptedAt);
+        batch.add();
+    }
+
+    private void insertDiaries(long diaryBase, int diaryCount) throws SQLException {
+        try (Batch batch = new Batch("INSERT INTO diary (id, name, img_url, diary_category, description, color, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?)")) {
+            for (int i = 0; i < diaryCount; i++) {
+                long diaryId = diaryBase + i;
+                PreparedStatement statement = batch.statement();
+                statement.setLong(1, diaryId);
+                statement.setString(2, "다이어리 " + diaryId);
+                statement.setString(3, String.format(IMAGE_URL_FORMAT, 0, diaryId));
+                statement.setString(4, CATEGORIES[i % CATEGORIES.length]);
+                statement.setString(5, "부하 테스트 다이어리");
+                statement.setString(6, COLORS[random.nextInt(COLORS.length)]);
+                setTimestamps(statement, 7, randomPast());
+                batch.add();
+            }
+        }
+    }
+
+    /** 다이어리 d의 주인은 d / diariesPerUser 번째 사용자이며, 그 뒤의 사용자들이 멤버로 참여 */
+    private void insertDiaryUsers(long diaryBase, int diaryCount, long userBase, int userCount,
+                                  int diariesPerUser, int membersPerDiary) throws SQLException {
+        int members = Math.min(membersPerDiary, userCount);
+
+        try (Batch batch = new Batch("INSERT INTO diary_users (diary_id, users_id, created_at, updated_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < diaryCount; i++) {
+                int owner = i / diariesPerUser;
+                for (int m = 0; m < members; m++) {
+                    PreparedStatement statement = batch.statement();
+                    statement.setLong(1, diaryBase + i);
+                    statement.setLong(2, userBase + (owner + m) % userCount);
+                    setTimestamps(statement, 3, randomPast());
+                    batch.add();
+                }
+            }
+        }
+    }
+
+    private void insertPapers(long paperBase, long addressBase, long paperCount, int papersPerDiary, long diaryBase,
+                              int diariesPerUser, long userBase, int userCount, int membersPerDiary) throws SQLException {
+        int members = Math.min(membersPerDiary, userCount);
+
+        // try-with-resources는 역순으로 닫으므로, 남은 주소가 페이퍼보다 먼저 저장되도록 address를 나중에 선언한다
+        try (Batch papers = new Batch("INSERT INTO paper (id, title, thumbnail_image_url, visited_at, user_id, diary_id, address_id, " +
+                "unlocked, thumbnail_variants_ready, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)");
+             Batch addresses = new Batch("INSERT INTO address (id, city, store, coordinate_x, coordinate_y) VALUES (?, ?, ?, ?, ?)")) {
+            for (long i = 0; i < paperCount; i++) {
+                long paperId = paperBase + i;
+                long addressId = addressBase + i;
+                int diaryIndex = (int) (i / papersPerDiary);
+                int owner = diaryIndex / diariesPerUser;
+                LocalDateTime createdAt = randomPast();
+
+                PreparedStatement address = addresses.statement();
+                address.setLong(1, addressId);
+                address.setString(2, "서울특별시 마포구 독막로 " + paperId);
+                address.setString(3, "가게 " + paperId);
+                // 서울 일대의 좌표
+                address.setDouble(4, 37.4 + random.nextDouble() * 0.3);
+                address.setDouble(5, 126.8 + random.nextDouble() * 0.4);
+                addresses.add();
+
+                PreparedStatement paper = papers.statement();
+                paper.setLong(1, paperId);
+                paper.setString(2, "페이퍼 " + paperId % 100000);
+                paper.setString(3, String.format(IMAGE_URL_FORMAT, paperId, 0));
+                paper.setDate(4, Date.valueOf(createdAt.toLocalDate()));
+                paper.setLong(5, userBase + (owner + random.nextInt(members)) % userCount);
+                paper.setLong(6, diaryBase + diaryIndex);
+                paper.setLong(7, addressId);
+                paper.setInt(8, random.nextInt(4) == 0 ? 0 : 1);
+                setTimestamps(paper, 9, createdAt);
+                papers.add();
+            }
+        }
+    }
+
+    private void insertImages(long imageBase, long paperBase, long paperCount, int imagesPerPaper) throws SQLException {
+        try (Batch batch = new Batch("INSERT INTO image (id, paper_id, image_url, sequence) VALUES (?, ?, ?, ?)")) {
+            long imageId = imageBase;
+            for (long i = 0; i < paperCount; i++) {
+                for (int sequence = 1; sequence <= imagesPerPaper; sequence++) {
+                    PreparedStatement statement = batch.statement();
+                    statement.setLong(1, imageId++);
+                    statement.setLong(2, paperBase + i);
+                    statement.setString(3, String.format(IMAGE_URL_FORMAT, paperBase + i, sequence));
+                    statement.setInt(4, sequence);
+                    batch.add();
+                }
+            }
+        }
+    }
+
+    private void insertComments(long commentBase, long paperBase, long paperCount, int commentsPerPaper,
+                                long userBase, int userCount) throws SQLException {
+        try (Batch batch = new Batch("INSERT INTO comment (id, content, paper_id, user_id, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)")) {
+            long commentId = commentBase;
+            for (long i = 0; i < paperCount; i++) {
+                for (int c = 0; c < commentsPerPaper; c++) {
+                    PreparedStatement statement = batch.statement();
+                    statement.setLong(1, commentId++);
+                    statement.setString(2, "부하 테스트 코멘트 " + c);
+                    statement.setLong(3, paperBase + i);
+                    statement.setLong(4, userBase + random.nextInt(userCount));
+                    setTimestamps(statement, 5, randomPast());
+                    batch.add();
+                }
+            }
+        }
+    }
+
+    private void insertBookmarks(long userBase, int userCount, long paperBase, long paperCount, int bookmarksPerUser) throws SQLException {
+        int count = (int) Math.min(bookmarksPerUser, paperCount);
+
+        try (Batch batch = new Batch("INSERT INTO bookmark (user_id, paper_id, created_at, updated_at) VALUES (?, ?, ?, ?)")) {
+            for (int i = 0; i < userCount; i++) {
+                Set<Long> paperIds = new HashSet<>();
+                while (paperIds.size() < count) {
+                    paperIds.add(paperBase + (long) (random.nextDouble() * paperCount));
+                }
+                for (Long paperId : paperIds) {
+                    PreparedStatement statement = batch.statement();
+                    statement.setLong(1, userBase + i);
+                    statement.setLong(2, paperId);
+                    setTimestamps(statement, 3, randomPast());
+                    batch.add();
+                }
+            }
+        }
+    }
+
+    private void insertNotices(long noticeBase, long userBase, int userCount, int noticesPerUser) throws SQLException {
+        try (Batch batch = new Batch("INSERT INTO notice (id, response_id, message, request_id, message_type, created_at, updated_at) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)")) {
+            long noticeId = noticeBase;
+            for (int i = 0; i < userCount; i++) {
+                for (int n = 0; n < noticesPerUser; n++) {
+                    PreparedStatement statement = batch.statement();
+                    statement.setLong(1, noticeId++);
+                    statement.setLong(2, userBase + i);
+                    statement.setString(3, "친구 요청이 있습니다.");
+                    statement.setLong(4, userBase + random.nextInt(userCount));
+                    statement.setInt(5, 1);
+                    setTimestamps(statement, 6, randomPast());
+                    batch.add();
+                }
+            }
+        }
+    }
+
+    private long nextId(String table, String column) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(" + column + "), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1) + 1;
+        }
+    }
+
+    private void restartIdentity(String table) throws SQLException {
+        long next = nextId(table, "id");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+        }
+        connection.commit();
+    }
+
+    private void setTimestamps(PreparedStatement statement, int index, LocalDateTime time) throws SQLException {
+        Timestamp timestamp = Timestamp.valueOf(time);
+        statement.setTimestamp(index, timestamp);
+        statement.setTimestamp(index + 1, timestamp);
+    }
+
+    /** 최근 1년 안의 임의 시각 */
+    private LocalDateTime randomPast() {
+        return now.minusSeconds(random.nextInt(365 * 24 * 60 * 60));
+    }
+
+    private int intOption(String name, int defaultValue) {
+        String value = options.get(name);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    /**
+     * batchSize개씩 모아 executeBatch 후 커밋하는 PreparedStatement 래퍼
+     */
+    private class Batch implements AutoCloseable {
+        private final PreparedStatement statement;
+        private int pending;
+
+        Batch(String sql) throws SQLException {
+            this.statement = connection.prepareStatement(sql);
+        }
+
+        PreparedStatement statement() {
+            return statement;
+        }
+
+        void add() throws SQLException {
+            statement.addBatch();
+            if (++pending >= batchSize) {
+                flush();
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                connection.commit();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            try {
+                flush();
+            } finally {
+                statement.close();
+            }
+        }
+    }
+}
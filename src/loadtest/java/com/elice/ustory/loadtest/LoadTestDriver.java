@@ -0,0 +1,207 @@
+package com.elice.ustory.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * {@link DataSeeder}로 생성한 사용자로 로그인한 뒤, 홈 → 다이어리 타임라인 → 지도 → 알림 순서의 시나리오를
+ * 지정한 시간 동안 반복하고 엔드포인트별 응답 시간 백분위를 출력합니다.
+ *
+ * <pre>
+ * ./gradlew loadTest --args="--base-url=http://localhost:8080 --first-user-id=1 --users=100 --concurrency=50 --duration-seconds=60"
+ * </pre>
+ *
+ * 로그인 API는 IP당 요청 제한이 있으므로 rate-limit.login.capacity 등을 늘린 서버에서 실행합니다.
+ */
+public class LoadTestDriver {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private final HttpClient httpClient;
+    private final String baseUrl;
+    private final Map<String, Recorder> recorders = new ConcurrentHashMap<>();
+
+    public LoadTestDriver(String baseUrl) {
+        this.baseUrl = baseUrl;
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Map<String, String> options = DataSeeder.parseOptions(args);
+        long firstUserId = Long.parseLong(options.getOrDefault("first-user-id", "1"));
+        int users = Integer.parseInt(options.getOrDefault("users", "100"));
+        int concurrency = Integer.parseInt(options.getOrDefault("concurrency", "50"));
+        long durationSeconds = Long.parseLong(options.getOrDefault("duration-seconds", "60"));
+        String password = options.getOrDefault("user-password", "ustory1234!");
+
+        LoadTestDriver driver = new LoadTestDriver(options.getOrDefault("base-url", "http://localhost:8080"));
+
+        List<String> accessTokens = new ArrayList<>();
+        for (long userId = firstUserId; userId < firstUserId + users; userId++) {
+            String accessToken = driver.login("load" + userId + "@ustory.me", password);
+            if (accessToken != null) {
+                accessTokens.add(accessToken);
+            }
+        }
+        if (accessTokens.isEmpty()) {
+            System.out.println("로그인에 성공한 사용자가 없습니다.");
+            return;
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(durationSeconds);
+        AtomicLong iterations = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+        for (int i = 0; i < concurrency; i++) {
+            String accessToken = accessTokens.get(i % accessTokens.size());
+            executor.execute(() -> {
+                while (System.nanoTime() < deadline) {
+                    driver.runScenario(accessToken);
+                    iterations.incrementAndGet();
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(durationSeconds + 60, TimeUnit.SECONDS);
+
+        System.out.printf("로그인 사용자: %d, 동시 실행: %d, 시나리오 반복: %d%n", accessTokens.size(), concurrency, iterations.get());
+        driver.printReport(durationSeconds);
+    }
+
+    /** 로그인 후 AccessToken을 반환하고, 실패하면 null을 반환합니다. */
+    public String login(String email, String password) {
+        String body = String.format("{\"loginEmail\":\"%s\",\"password\":\"%s\"}", email, password);
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + "/user/login"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+
+        HttpResponse<String> response = send("POST /user/login", request);
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        return response.headers().firstValue("Authorization").orElse(null);
+    }
+
+    public void runScenario(String accessToken) {
+        String requestTime = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS).format(DateTimeFormatter.ISO_LOCAL_DATE_TIME);
+
+        HttpResponse<String> home = get("GET /diary/home", "/diary/home", accessToken);
+        Long diaryId = firstDiaryId(home);
+        if (diaryId != null) {
+            get("GET /papers/diary/{diaryId}", "/papers/diary/" + diaryId + "?requestTime=" + requestTime + "&page=1&size=20", accessToken);
+        }
+        get("GET /papers/map", "/papers/map", accessToken);
+        get("GET /notices", "/notices?requestTime=" + requestTime + "&page=1&size=10", accessToken);
+    }
+
+    private HttpResponse<String> get(String name, String path, String accessToken) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(baseUrl + path))
+                .header("Authorization", "Bearer " + accessToken)
+                .GET()
+                .build();
+        return send(name, request);
+    }
+
+    private HttpResponse<String> send(String name, HttpRequest request) {
+        Recorder recorder = recorders.computeIfAbsent(name, key -> new Recorder());
+        long start = System.nanoTime();
+        try {
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            recorder.record(System.nanoTime() - start, response.statusCode() < 400);
+            return response;
+        } catch (IOException e) {
+            recorder.record(System.nanoTime() - start, false);
+            return null;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        }
+    }
+
+    private Long firstDiaryId(HttpResponse<String> response) {
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        try {
+            JsonNode diaries = OBJECT_MAPPER.readTree(response.body());
+            return diaries.isArray() && !diaries.isEmpty() ? diaries.get(0).get("id").asLong() : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public void printReport(long durationSeconds) {
+        System.out.printf("%-30s %8s %8s %8s %9s %9s %9s %9s %9s%n",
+                "endpoint", "count", "errors", "rps", "p50(ms)", "p90(ms)", "p95(ms)", "p99(ms)", "max(ms)");
+
+        Map<String, Recorder> sorted = new LinkedHashMap<>();
+        recorders.keySet().stream().sorted().forEach(name -> sorted.put(name, recorders.get(name)));
+
+        sorted.forEach((name, recorder) -> {
+            long[] latencies = recorder.sortedLatencies();
+            System.out.printf("%-30s %8d %8d %8.1f %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                    name, latencies.length, recorder.errors(), (double) latencies.length / durationSeconds,
+                    percentile(latencies, 50), percentile(latencies, 90), percentile(latencies, 95),
+                    percentile(latencies, 99), percentile(latencies, 100));
+        });
+    }
+
+    private static double percentile(long[] sortedLatencies, double percentile) {
+        if (sortedLatencies.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(percentile / 100 * sortedLatencies.length) - 1;
+        return sortedLatencies[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+    /**
+     * 엔드포인트 하나의 응답 시간(ns)을 모두 보관합니다. 백분위는 종료 후 정렬해서 계산합니다.
+     */
+    private static class Recorder {
+        private long[] latencies = new long[1024];
+        private int size;
+        private long errors;
+
+        synchronized void record(long latencyNanos, boolean success) {
+            if (size == latencies.length) {
+                latencies = Arrays.copyOf(latencies, size * 2);
+            }
+            latencies[size++] = latencyNanos;
+            if (!success) {
+                errors++;
+            }
+        }
+
+        synchronized long[] sortedLatencies() {
+            long[] sorted = Arrays.copyOf(latencies, size);
+            Arrays.sort(sorted);
+            return sorted;
+        }
+
+        synchronized long errors() {
+            return errors;
+        }
+    }
+}
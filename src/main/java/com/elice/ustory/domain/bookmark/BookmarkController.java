@@ -1,8 +1,8 @@
 package com.elice.ustory.domain.bookmark;
 
+import com.elice.ustory.domain.bookmark.dto.BookmarkCheckResponse;
 import com.elice.ustory.domain.bookmark.dto.BookmarkListResponse;
 import com.elice.ustory.domain.bookmark.dto.BookmarkResponse;
-import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
 import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.jwt.JwtAuthorization;
@@ -20,10 +20,12 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "Bookmark API")
@@ -32,6 +34,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BookmarkController {
 
+    private static final int MAX_CHECK_PAPER_SIZE = 100;
+
     private final BookmarkService bookmarkService;
 
     @Operation(summary = "Create bookmark API", description = "북마크를 지정한다.")
@@ -52,7 +56,7 @@ public class BookmarkController {
         return ResponseEntity.status(HttpStatus.CREATED).build();
     }
 
-    @Operation(summary = "Read Papers Bookmarked API", description = "북마크된 Paper 리스트를 불러온다. <br> 북마크가 존재하지 않는 경우 빈리스트를 반환한다.")
+    @Operation(summary = "Read Papers Bookmarked API", description = "북마크된 Paper 리스트를 불러온다. <br> 북마크가 존재하지 않는 경우 빈리스트를 반환한다. <br> lastBookmarkedAt, lastPaperId에 이전 응답의 마지막 bookmarkedAt, paperId를 함께 넘기면 page 대신 커서 기반으로 다음 목록을 불러온다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BookmarkListResponse.class)))),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -63,19 +67,19 @@ public class BookmarkController {
     public ResponseEntity<List<BookmarkListResponse>> getBookmarkedPapersByUserId(
             @JwtAuthorization Long userId,
             @RequestParam(name = "page", defaultValue = "1") int page,
-            @RequestParam(name = "size", defaultValue = "20") int size) {
+            @RequestParam(name = "size", defaultValue = "20") int size,
+            @RequestParam(name = "lastBookmarkedAt", required = false) LocalDateTime lastBookmarkedAt,
+            @RequestParam(name = "lastPaperId", required = false) Long lastPaperId) {
 
         if (page < 1) {
             throw new ValidationException("페이지는 1 이상이어야 합니다.");
         } else if (size < 1){
             throw new ValidationException("사이즈는 1 이상이어야 합니다.");
+        } else if ((lastBookmarkedAt == null) != (lastPaperId == null)) {
+            throw new ValidationException("lastBookmarkedAt과 lastPaperId는 함께 입력해야 합니다.");
         }
 
-        List<Paper> papers = bookmarkService.getBookmarksByUser(userId, page, size);
-
-        List<BookmarkListResponse> result = papers.stream()
-                .map(BookmarkListResponse::new)
-                .toList();
+        List<BookmarkListResponse> result = bookmarkService.getBookmarksByUser(userId, page, size, lastBookmarkedAt, lastPaperId);
 
         return ResponseEntity.ok(result);
     }
@@ -99,6 +103,49 @@ public class BookmarkController {
         return ResponseEntity.ok(new BookmarkResponse(isBookmarked));
     }
 
+    @Operation(summary = "Bookmark Batch Check API",
+            description = "여러 Paper의 북마크 여부를 한 번에 확인한다. <br>" +
+                    "paperIds는 최대 " + MAX_CHECK_PAPER_SIZE + "개까지 요청할 수 있다. <br>" +
+                    "bookmarked가 0인 경우 북마크로 지정되지 않았음을 의미한다. <br>" +
+                    "bookmarked가 1인 경우 북마크로 지정되어 있음을 의미한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = BookmarkCheckResponse.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/bookmarks/check")
+    public ResponseEntity<List<BookmarkCheckResponse>> checkBookmarks(@RequestParam(name = "paperIds") List<Long> paperIds,
+                                                                      @JwtAuthorization Long userId) {
+
+        if (paperIds.size() > MAX_CHECK_PAPER_SIZE) {
+            throw new ValidationException(String.format("paperIds는 %d개 이하여야 합니다.", MAX_CHECK_PAPER_SIZE));
+        }
+
+        return ResponseEntity.ok(bookmarkService.checkBookmarks(userId, paperIds));
+    }
+
+    @Operation(summary = "Toggle Bookmark API",
+            description = "북마크를 토글하고 변경된 북마크 여부를 반환한다. <br>" +
+                    "bookmarked를 넘기면 해당 상태로 지정하며, 같은 요청을 여러 번 보내도 결과가 같다. <br>" +
+                    "bookmarked를 넘기지 않으면 현재 상태를 반전한다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = BookmarkResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @PutMapping("/{paperId}/bookmark")
+    public ResponseEntity<BookmarkResponse> toggleBookmark(@PathVariable Long paperId,
+                                                           @RequestParam(name = "bookmarked", required = false) Boolean bookmarked,
+                                                           @JwtAuthorization Long userId) {
+
+        boolean result = bookmarkService.toggleBookmark(userId, paperId, bookmarked);
+
+        return ResponseEntity.ok(new BookmarkResponse(result));
+    }
+
     @Operation(summary = "Delete Bookmark API", description = "북마크를 해제한다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "No Content", content = @Content(mediaType = "application/json")),
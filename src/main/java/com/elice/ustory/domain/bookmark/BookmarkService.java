@@ -1,5 +1,7 @@
 package com.elice.ustory.domain.bookmark;
 
+import com.elice.ustory.domain.bookmark.dto.BookmarkCheckResponse;
+import com.elice.ustory.domain.bookmark.dto.BookmarkListResponse;
 import com.elice.ustory.domain.bookmark.entity.Bookmark;
 import com.elice.ustory.domain.bookmark.repository.BookmarkRepository;
 import com.elice.ustory.domain.paper.entity.Paper;
@@ -11,7 +13,11 @@ import com.elice.ustory.global.exception.model.NotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
 @Service
@@ -26,6 +32,7 @@ public class BookmarkService {
     private final BookmarkRepository bookmarkRepository;
     private final UserRepository userRepository;
     private final PaperRepository paperRepository;
+    private final BookmarkedPaperCache bookmarkedPaperCache;
 
     /** 북마크 저장 */
     public Bookmark saveBookmark(Long userId, Long paperId) {
@@ -40,21 +47,64 @@ public class BookmarkService {
             throw new ConflictException(CONFLICT_BOOKMARK_MESSAGE);
         }
 
-        Bookmark bookmark = new Bookmark(user, paper);
-        return bookmarkRepository.save(bookmark);
+        Bookmark bookmark = bookmarkRepository.save(new Bookmark(user, paper));
+        bookmarkedPaperCache.evict(userId);
+
+        return bookmark;
     }
 
     /** 북마크 체크한 모든 paper 불러오기 */
-    public List<Paper> getBookmarksByUser(Long userId, int page, int size) {
+    public List<BookmarkListResponse> getBookmarksByUser(Long userId, int page, int size, LocalDateTime lastBookmarkedAt, Long lastPaperId) {
 
         PageRequest pageRequest = PageRequest.of(page - 1, size);
 
-        return bookmarkRepository.findPapersByUserId(userId, pageRequest);
+        return bookmarkRepository.findBookmarkListByUserId(userId, pageRequest, lastBookmarkedAt, lastPaperId);
     }
 
     /** 북마크 판별 메서드 */
     public boolean isPaperBookmarkedByUser(Long userId, Long paperId) {
-        return bookmarkRepository.existsByUserIdAndPaperId(userId, paperId);
+        return bookmarkedPaperCache.contains(userId, paperId);
+    }
+
+    /** 여러 paper의 북마크 여부를 한 번에 판별하는 메서드 */
+    public List<BookmarkCheckResponse> checkBookmarks(Long userId, List<Long> paperIds) {
+        long[] bookmarkedPaperIds = bookmarkedPaperCache.getBookmarkedPaperIds(userId);
+
+        List<BookmarkCheckResponse> result = new ArrayList<>(paperIds.size());
+        for (Long paperId : paperIds) {
+            boolean bookmarked = Arrays.binarySearch(bookmarkedPaperIds, paperId) >= 0;
+            result.add(new BookmarkCheckResponse(paperId, bookmarked));
+        }
+
+        return result;
+    }
+
+    /**
+     * 북마크 토글 메서드
+     * bookmarked가 주어지면 해당 상태로 맞추고, 없으면 현재 상태를 반전한다.
+     * 엔티티를 불러오지 않고 복합키로 바로 INSERT/DELETE 하므로 같은 요청이 반복되어도 충돌이 발생하지 않는다.
+     *
+     * @return 변경 이후 북마크 여부
+     */
+    @Transactional
+    public boolean toggleBookmark(Long userId, Long paperId, Boolean bookmarked) {
+
+        if (!Boolean.TRUE.equals(bookmarked)) {
+            int deleted = bookmarkRepository.deleteBookmarkById(userId, paperId);
+            if (deleted > 0 || Boolean.FALSE.equals(bookmarked)) {
+                bookmarkedPaperCache.evict(userId);
+                return false;
+            }
+        }
+
+        // 삽입된 행이 없다면 이미 북마크되어 있거나 페이퍼가 존재하지 않는 경우
+        if (bookmarkRepository.insertBookmarkIfAbsent(userId, paperId) == 0
+                && !bookmarkRepository.existsByUserIdAndPaperId(userId, paperId)) {
+            throw new NotFoundException(String.format(NOT_FOUND_PAPER_MESSAGE, paperId));
+        }
+
+        bookmarkedPaperCache.evict(userId);
+        return true;
     }
 
     /** 북마크 삭제 메서드 */
@@ -63,5 +113,6 @@ public class BookmarkService {
                 .orElseThrow(() -> new NotFoundException(NOT_FOUND_BOOKMARK_MESSAGE));
 
         bookmarkRepository.delete(bookmark);
+        bookmarkedPaperCache.evict(userId);
     }
 }
@@ -0,0 +1,135 @@
+package com.elice.ustory.domain.bookmark;
+
+import com.elice.ustory.domain.bookmark.repository.BookmarkRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사용자별로 북마크한 paper id를 오름차순으로 정렬된 long 배열로 Redis에 캐싱합니다.
+ * 한 번의 조회로 여러 페이퍼의 북마크 여부를 이분 탐색으로 판별할 수 있으며,
+ * 북마크 저장/삭제 시 해당 사용자의 캐시를, 페이퍼 삭제 시 그 페이퍼를 북마크한 사용자들의 캐시를 제거합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookmarkedPaperCache {
+
+    private static final String BOOKMARKED_PAPER_KEY_PREFIX = "bookmarkedPapers:";
+    private static final Duration BOOKMARKED_PAPER_TTL = Duration.ofHours(1);
+
+    private final BookmarkRepository bookmarkRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 사용자가 북마크한 paper id 배열(오름차순)을 조회합니다.
+     * 캐시에 없으면 DB에서 읽어 캐시에 저장하며, Redis를 사용할 수 없으면 DB 조회 결과를 그대로 반환합니다.
+     */
+    public long[] getBookmarkedPaperIds(Long userId) {
+        String key = BOOKMARKED_PAPER_KEY_PREFIX + userId;
+
+        try {
+            String cached = stringRedisTemplate.opsForValue().get(key);
+            if (cached != null) {
+                return decode(cached);
+            }
+        } catch (DataAccessException e) {
+            log.warn("[getBookmarkedPaperIds] 북마크 캐시 조회 실패 userId: {}", userId, e);
+            return loadFromDatabase(userId);
+        }
+
+        long[] paperIds = loadFromDatabase(userId);
+        try {
+            stringRedisTemplate.opsForValue().set(key, encode(paperIds), BOOKMARKED_PAPER_TTL);
+        } catch (DataAccessException e) {
+            log.warn("[getBookmarkedPaperIds] 북마크 캐시 저장 실패 userId: {}", userId, e);
+        }
+        return paperIds;
+    }
+
+    public boolean contains(Long userId, Long paperId) {
+        return Arrays.binarySearch(getBookmarkedPaperIds(userId), paperId) >= 0;
+    }
+
+    /**
+     * 사용자의 캐시를 제거합니다. 트랜잭션 안에서 호출되면 커밋 이후에 제거해 이전 상태가 다시 캐싱되지 않게 합니다.
+     */
+    public void evict(Long userId) {
+        evictAll(List.of(userId));
+    }
+
+    /**
+     * 주어진 페이퍼들을 북마크한 사용자들의 캐시를 제거합니다.
+     * 북마크 행이 지워지기 전에 호출해야 대상 사용자를 찾을 수 있습니다.
+     */
+    public void evictByPaperIds(Collection<Long> paperIds) {
+        if (paperIds.isEmpty()) {
+            return;
+        }
+        evictAll(bookmarkRepository.findUserIdsByPaperIds(paperIds));
+    }
+
+    private void evictAll(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    delete(userIds);
+                }
+            });
+            return;
+        }
+        delete(userIds);
+    }
+
+    private void delete(Collection<Long> userIds) {
+        try {
+            stringRedisTemplate.delete(userIds.stream()
+                    .map(userId -> BOOKMARKED_PAPER_KEY_PREFIX + userId)
+                    .toList());
+        } catch (DataAccessException e) {
+            log.warn("[evict] 북마크 캐시 제거 실패 userIds: {}", userIds, e);
+        }
+    }
+
+    private long[] loadFromDatabase(Long userId) {
+        List<Long> paperIds = bookmarkRepository.findPaperIdsByUserId(userId);
+        long[] result = new long[paperIds.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = paperIds.get(i);
+        }
+        return result;
+    }
+
+    private String encode(long[] paperIds) {
+        ByteBuffer buffer = ByteBuffer.allocate(paperIds.length * Long.BYTES);
+        for (long paperId : paperIds) {
+            buffer.putLong(paperId);
+        }
+        return Base64.getEncoder().encodeToString(buffer.array());
+    }
+
+    private long[] decode(String cached) {
+        ByteBuffer buffer = ByteBuffer.wrap(Base64.getDecoder().decode(cached));
+        long[] paperIds = new long[buffer.remaining() / Long.BYTES];
+        for (int i = 0; i < paperIds.length; i++) {
+            paperIds[i] = buffer.getLong();
+        }
+        return paperIds;
+    }
+}
@@ -0,0 +1,21 @@
+package com.elice.ustory.domain.bookmark.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+@Getter
+public class BookmarkCheckResponse {
+
+    @Schema(description = "Paper ID", example = "1")
+    private Long paperId;
+
+    @Schema(description = "북마크 여부",
+            example = "0인 경우 북마크로 지정되지 않았음을 의미 <br>" +
+                    "1인 경우 북마크로 지정되어 있음을 의미")
+    private int bookmarked;
+
+    public BookmarkCheckResponse(Long paperId, boolean bookmarked) {
+        this.paperId = paperId;
+        this.bookmarked = bookmarked ? 1 : 0;
+    }
+}
@@ -1,10 +1,10 @@
 package com.elice.ustory.domain.bookmark.dto;
 
-import com.elice.ustory.domain.paper.entity.Paper;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Getter
 public class BookmarkListResponse {
@@ -24,11 +24,16 @@ public class BookmarkListResponse {
     @Schema(description = "paper Id", example = "12345678")
     private Long paperId;
 
-    public BookmarkListResponse(Paper paper) {
-        this.title = paper.getTitle();
-        this.thumbnailImageUrl = paper.getThumbnailImageUrl();
-        this.visitedAt = paper.getVisitedAt();
-        this.store = paper.getAddress().getStore();
-        this.paperId = paper.getId();
+    @Schema(description = "북마크한 시간 <br>다음 목록을 불러올 때 lastPaperId와 함께 lastBookmarkedAt으로 넘긴다.", example = "2024-06-03T18:02:59")
+    private LocalDateTime bookmarkedAt;
+
+    public BookmarkListResponse(Long paperId, String title, String thumbnailImageUrl, LocalDate visitedAt, String store,
+                                LocalDateTime bookmarkedAt) {
+        this.title = title;
+        this.thumbnailImageUrl = thumbnailImageUrl;
+        this.visitedAt = visitedAt;
+        this.store = store;
+        this.paperId = paperId;
+        this.bookmarkedAt = bookmarkedAt;
     }
 }
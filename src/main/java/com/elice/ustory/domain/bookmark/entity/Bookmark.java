@@ -9,6 +9,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,7 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
 @IdClass(BookmarkId.class)
-@Table(name = "bookmark")
+@Table(name = "bookmark", indexes = @Index(name = "idx_bookmark_user_created", columnList = "user_id, created_at, paper_id"))
 public class Bookmark extends BaseEntity {
 
     @Id
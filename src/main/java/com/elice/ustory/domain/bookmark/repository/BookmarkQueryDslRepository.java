@@ -1,8 +1,10 @@
 package com.elice.ustory.domain.bookmark.repository;
 
-import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.bookmark.dto.BookmarkListResponse;
 import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface BookmarkQueryDslRepository {
@@ -10,6 +12,22 @@ public interface BookmarkQueryDslRepository {
     /** userId와 paperId가 일치하는 Bookmark 존재 유무 확인하기 */
     boolean existsByUserIdAndPaperId(Long userId, Long paperId);
 
-    /** userId에 해당하는 Bookmark 들의 Paper List 가져오기 */
-    List<Paper> findPapersByUserId(Long userId, Pageable pageable);
+    /**
+     * userId에 해당하는 Bookmark 목록을 북마크한 시간 역순으로 가져오기
+     * 커서(lastBookmarkedAt, lastPaperId)가 주어지면 offset 대신 (createdAt, paperId) 기준으로 이어서 조회한다.
+     * 커서 값을 그대로 비교하므로 마지막으로 본 북마크가 그사이 삭제되어도 이어서 조회할 수 있다.
+     */
+    List<BookmarkListResponse> findBookmarkListByUserId(Long userId, Pageable pageable, LocalDateTime lastBookmarkedAt, Long lastPaperId);
+
+    /** userId에 해당하는 Bookmark 들의 paperId를 오름차순으로 가져오기 */
+    List<Long> findPaperIdsByUserId(Long userId);
+
+    /** paperIds 중 하나라도 북마크한 사용자 id 목록 가져오기 */
+    List<Long> findUserIdsByPaperIds(Collection<Long> paperIds);
+
+    /** 삭제되지 않은 paper에 대해서만 Bookmark 추가하기, 이미 존재하면 아무것도 하지 않는다 */
+    int insertBookmarkIfAbsent(Long userId, Long paperId);
+
+    /** 복합키(userId, paperId)로 Bookmark 삭제하기 */
+    int deleteBookmarkById(Long userId, Long paperId);
 }
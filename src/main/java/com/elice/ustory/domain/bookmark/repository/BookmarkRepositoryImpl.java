@@ -1,19 +1,28 @@
 package com.elice.ustory.domain.bookmark.repository;
 
-import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.bookmark.dto.BookmarkListResponse;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
+import static com.elice.ustory.domain.address.QAddress.address;
 import static com.elice.ustory.domain.bookmark.entity.QBookmark.bookmark;
+import static com.elice.ustory.domain.paper.entity.QPaper.paper;
 
 @Repository
 @RequiredArgsConstructor
 public class BookmarkRepositoryImpl implements BookmarkQueryDslRepository{
 
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
     @Override
@@ -27,14 +36,79 @@ public class BookmarkRepositoryImpl implements BookmarkQueryDslRepository{
     }
 
     @Override
-    public List<Paper> findPapersByUserId(Long userId, Pageable pageable) {
-        return queryFactory.select(bookmark.paper)
+    public List<BookmarkListResponse> findBookmarkListByUserId(Long userId, Pageable pageable, LocalDateTime lastBookmarkedAt, Long lastPaperId) {
+        JPAQuery<BookmarkListResponse> query = queryFactory.select(Projections.constructor(BookmarkListResponse.class,
+                        paper.id,
+                        paper.title,
+                        paper.thumbnailImageUrl,
+                        paper.visitedAt,
+                        address.store,
+                        bookmark.createdAt
+                ))
+                .from(bookmark)
+                .join(bookmark.paper, paper)
+                .leftJoin(paper.address, address)
+                .where(bookmark.user.id.eq(userId),
+                        paper.deletedAt.isNull(),
+                        afterCursor(lastBookmarkedAt, lastPaperId))
+                .orderBy(bookmark.createdAt.desc(), paper.id.desc())
+                .limit(pageable.getPageSize());
+
+        // 커서가 주어지면 앞선 페이지를 건너뛰지 않고 인덱스에서 바로 이어서 읽는다
+        if (lastBookmarkedAt == null || lastPaperId == null) {
+            query.offset(pageable.getOffset());
+        }
+
+        return query.fetch();
+    }
+
+    @Override
+    public List<Long> findPaperIdsByUserId(Long userId) {
+        return queryFactory.select(bookmark.paper.id)
                 .from(bookmark)
                 .where(bookmark.user.id.eq(userId),
                         bookmark.paper.deletedAt.isNull())
-                .orderBy(bookmark.createdAt.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
+                .orderBy(bookmark.paper.id.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findUserIdsByPaperIds(Collection<Long> paperIds) {
+        return queryFactory.select(bookmark.user.id)
+                .distinct()
+                .from(bookmark)
+                .where(bookmark.paper.id.in(paperIds))
                 .fetch();
     }
+
+    @Override
+    public int insertBookmarkIfAbsent(Long userId, Long paperId) {
+        LocalDateTime now = LocalDateTime.now();
+        return em.createNativeQuery(
+                        "INSERT INTO bookmark (user_id, paper_id, created_at, updated_at) " +
+                                "SELECT :userId, p.id, :now, :now FROM paper p " +
+                                "WHERE p.id = :paperId AND p.deleted_at IS NULL " +
+                                "ON DUPLICATE KEY UPDATE user_id = user_id")
+                .setParameter("userId", userId)
+                .setParameter("paperId", paperId)
+                .setParameter("now", now)
+                .executeUpdate();
+    }
+
+    @Override
+    public int deleteBookmarkById(Long userId, Long paperId) {
+        return (int) queryFactory.delete(bookmark)
+                .where(bookmark.user.id.eq(userId),
+                        bookmark.paper.id.eq(paperId))
+                .execute();
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime lastBookmarkedAt, Long lastPaperId) {
+        if (lastBookmarkedAt == null || lastPaperId == null) {
+            return null;
+        }
+
+        return bookmark.createdAt.lt(lastBookmarkedAt)
+                .or(bookmark.createdAt.eq(lastBookmarkedAt).and(paper.id.lt(lastPaperId)));
+    }
 }
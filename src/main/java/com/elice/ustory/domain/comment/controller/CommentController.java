@@ -4,6 +4,7 @@ import com.elice.ustory.domain.comment.dto.*;
 import com.elice.ustory.domain.comment.entity.Comment;
 import com.elice.ustory.domain.comment.service.CommentService;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.jwt.JwtAuthorization;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.ArraySchema;
@@ -16,8 +17,8 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Tag(name = "Comment API")
 @RestController
@@ -40,12 +41,11 @@ public class CommentController {
     @GetMapping("/paper/{paperId}/comment/{commentId}")  // 시험용이라 uri 더러운건 무시하셔도 됩니다.
     public ResponseEntity<CommentResponse> getComment(@PathVariable Long paperId,
                                                       @PathVariable Long commentId) {
-        Optional<Comment> comment = commentService.getComment(paperId, commentId);
-        CommentResponse commentResponse = new CommentResponse(comment.orElseGet(Comment::new));
+        CommentResponse commentResponse = commentService.getComment(paperId, commentId);
         return ResponseEntity.ok().body(commentResponse);
     }
 
-    @Operation(summary = "Get Comments API", description = "모든 댓글들을 불러옴 <br> 댓글이 존재하지 않는 경우 빈리스트를 반환한다.")
+    @Operation(summary = "Get Comments API", description = "모든 댓글들을 불러옴 <br> 댓글이 존재하지 않는 경우 빈리스트를 반환한다. <br> size를 넘기면 작성순으로 size개만 불러오며, lastWrittenAt, lastCommentId에 이전 응답의 마지막 댓글 writtenAt, id를 함께 넘기면 그 다음 댓글부터 불러온다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = CommentListResponse.class)))),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -54,16 +54,34 @@ public class CommentController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @GetMapping("/paper/{paperId}")   // 시험용이라 uri 더러운건 무시하셔도 됩니다.
-    public ResponseEntity<List<CommentListResponse>> getComments(@PathVariable Long paperId, @JwtAuthorization Long userId) {
-        List<Comment> comments = commentService.getComments(paperId, userId);
+    public ResponseEntity<List<CommentListResponse>> getComments(@PathVariable Long paperId, @JwtAuthorization Long userId,
+                                                                 @RequestParam(name = "lastWrittenAt", required = false) LocalDateTime lastWrittenAt,
+                                                                 @RequestParam(name = "lastCommentId", required = false) Long lastCommentId,
+                                                                 @RequestParam(name = "size", required = false) Integer size) {
+        if (size != null && size < 1) {
+            throw new ValidationException("사이즈는 1 이상이어야 합니다.");
+        } else if ((lastWrittenAt == null) != (lastCommentId == null)) {
+            throw new ValidationException("lastWrittenAt과 lastCommentId는 함께 입력해야 합니다.");
+        }
 
-        List<CommentListResponse> response = comments.stream()
-                .map(comment -> new CommentListResponse(comment, userId))
-                .toList();
+        List<CommentListResponse> response = commentService.getComments(paperId, userId, lastWrittenAt, lastCommentId, size);
 
         return ResponseEntity.ok().body(response);
     }
 
+    @Operation(summary = "Count Comments API", description = "페이퍼에 달린 댓글 수를 불러옴")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommentCountResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/paper/{paperId}/count")
+    public ResponseEntity<CommentCountResponse> countComments(@PathVariable Long paperId) {
+        return ResponseEntity.ok().body(commentService.countComments(paperId));
+    }
+
     @Operation(summary = "Post Comment API", description = "댓글을 생성함")
     @ApiResponses({
             @ApiResponse(responseCode = "201", description = "Created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = AddCommentResponse.class))),
@@ -0,0 +1,15 @@
+package com.elice.ustory.domain.comment.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CommentCountResponse {
+
+    @Schema(description = "댓글 수", example = "12")
+    private long count;
+}
@@ -0,0 +1,40 @@
+package com.elice.ustory.domain.comment.dto;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CommentList {
+    private Long id;
+
+    private String content;
+
+    private Long userId;
+
+    private String userNickname;
+
+    private String profileImg;
+
+    private LocalDateTime createdAt;
+
+    public CommentList(Long id, String content, Long userId, String userNickname, String profileImg, LocalDateTime createdAt) {
+        this.id = id;
+        this.content = content;
+        this.userId = userId;
+        this.userNickname = userNickname;
+        this.profileImg = profileImg;
+        this.createdAt = createdAt;
+    }
+
+    public CommentListResponse toCommentListResponse(Long requestUserId) {
+        return new CommentListResponse(this, requestUserId);
+    }
+
+    public CommentResponse toCommentResponse() {
+        return new CommentResponse(this);
+    }
+}
@@ -8,6 +8,7 @@ import lombok.Data;
 import lombok.RequiredArgsConstructor;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Data
 @RequiredArgsConstructor
@@ -35,6 +36,9 @@ public class CommentListResponse {
     @Schema(description = "댓글 작성 날짜", example = "2024.06.13 (목)")
     private LocalDate createdAt;
 
+    @Schema(description = "댓글 작성 시간 <br>다음 댓글을 불러올 때 id와 함께 lastWrittenAt으로 넘긴다.", example = "2024-06-13T18:02:59")
+    private LocalDateTime writtenAt;
+
     public CommentListResponse(Comment comment, Long userId){
         this.id = comment.getId();
         this.content = comment.getContent();
@@ -44,4 +48,14 @@ public class CommentListResponse {
         this.createdAt = LocalDate.now();
         this.isUpdatable = comment.getUser().getId() == userId ? 1 : 0;
     }
+
+    public CommentListResponse(CommentList comment, Long userId) {
+        this.id = comment.getId();
+        this.content = comment.getContent();
+        this.userNickname = comment.getUserNickname();
+        this.profileImg = comment.getProfileImg();
+        this.createdAt = comment.getCreatedAt().toLocalDate();
+        this.writtenAt = comment.getCreatedAt();
+        this.isUpdatable = comment.getUserId().equals(userId) ? 1 : 0;
+    }
 }
@@ -38,4 +38,12 @@ public class CommentResponse {
         this.profileImg = comment.getUser().getProfileImgUrl();
         this.createdAt = LocalDate.now();
     }
+
+    public CommentResponse(CommentList comment) {
+        this.id = comment.getId();
+        this.content = comment.getContent();
+        this.userNickname = comment.getUserNickname();
+        this.profileImg = comment.getProfileImg();
+        this.createdAt = comment.getCreatedAt().toLocalDate();
+    }
 }
@@ -7,7 +7,7 @@ import jakarta.persistence.*;
 import lombok.*;
 
 @Entity
-@Table(name = "comment")
+@Table(name = "comment", indexes = @Index(name = "idx_comment_paper_created", columnList = "paper_id, created_at, id"))
 @Getter
 @AllArgsConstructor
 @NoArgsConstructor
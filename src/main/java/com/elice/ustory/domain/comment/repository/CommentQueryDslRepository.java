@@ -0,0 +1,23 @@
+package com.elice.ustory.domain.comment.repository;
+
+import com.elice.ustory.domain.comment.dto.CommentList;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface CommentQueryDslRepository {
+
+    /**
+     * paperId에 해당하는 Comment 들을 작성자 정보와 함께 작성순으로 가져오기
+     * 커서(lastWrittenAt, lastCommentId)가 주어지면 그 이후부터 (createdAt, id) 기준으로 이어서 조회하며, size가 없으면 전부 가져온다.
+     * 커서 값을 그대로 비교하므로 마지막으로 본 댓글이 그사이 삭제되어도 이어서 조회할 수 있다.
+     */
+    List<CommentList> findCommentListByPaperId(Long paperId, LocalDateTime lastWrittenAt, Long lastCommentId, Integer size);
+
+    /** paperId에 해당하는 Comment 개수 가져오기, 삭제된 페이퍼라면 0 */
+    long countByPaperId(Long paperId);
+
+    /** paperId와 commentId가 일치하는 Comment를 작성자 정보와 함께 가져오기 */
+    Optional<CommentList> findCommentByPaperIdAndId(Long paperId, Long commentId);
+}
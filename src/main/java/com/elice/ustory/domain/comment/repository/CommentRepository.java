@@ -9,7 +9,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface CommentRepository extends JpaRepository<Comment, Long> {
+public interface CommentRepository extends JpaRepository<Comment, Long>, CommentQueryDslRepository {
     Optional<Comment> findById(Long id);
     List<Comment> findByPaper(Paper paper);
 }
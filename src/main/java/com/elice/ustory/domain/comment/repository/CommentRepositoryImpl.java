@@ -0,0 +1,85 @@
+package com.elice.ustory.domain.comment.repository;
+
+import com.elice.ustory.domain.comment.dto.CommentList;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static com.elice.ustory.domain.comment.entity.QComment.comment;
+import static com.elice.ustory.domain.paper.entity.QPaper.paper;
+import static com.elice.ustory.domain.user.entity.QUsers.users;
+
+@Repository
+@RequiredArgsConstructor
+public class CommentRepositoryImpl implements CommentQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<CommentList> findCommentListByPaperId(Long paperId, LocalDateTime lastWrittenAt, Long lastCommentId, Integer size) {
+        JPAQuery<CommentList> query = selectCommentList()
+                .where(comment.paper.id.eq(paperId),
+                        paper.deletedAt.isNull(),
+                        afterCursor(lastWrittenAt, lastCommentId))
+                .orderBy(comment.createdAt.asc(), comment.id.asc());
+
+        if (size != null) {
+            query.limit(size);
+        }
+
+        return query.fetch();
+    }
+
+    @Override
+    public long countByPaperId(Long paperId) {
+        // 목록 조회와 같이 삭제된 페이퍼의 댓글은 세지 않는다
+        Long count = queryFactory.select(comment.count())
+                .from(comment)
+                .join(comment.paper, paper)
+                .where(comment.paper.id.eq(paperId),
+                        paper.deletedAt.isNull())
+                .fetchOne();
+
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Optional<CommentList> findCommentByPaperIdAndId(Long paperId, Long commentId) {
+        return Optional.ofNullable(selectCommentList()
+                .where(comment.id.eq(commentId),
+                        comment.paper.id.eq(paperId),
+                        paper.deletedAt.isNull())
+                .fetchOne());
+    }
+
+    // 작성자 정보는 엔티티를 불러오지 않고 필요한 컬럼만 조인해서 가져온다
+    private JPAQuery<CommentList> selectCommentList() {
+        return queryFactory.select(Projections.constructor(CommentList.class,
+                        comment.id,
+                        comment.content,
+                        users.id,
+                        users.nickname,
+                        users.profileImgUrl,
+                        comment.createdAt
+                ))
+                .from(comment)
+                .join(comment.paper, paper)
+                .join(comment.user, users);
+    }
+
+    private BooleanExpression afterCursor(LocalDateTime lastWrittenAt, Long lastCommentId) {
+        if (lastWrittenAt == null || lastCommentId == null) {
+            return null;
+        }
+
+        return comment.createdAt.gt(lastWrittenAt)
+                .or(comment.createdAt.eq(lastWrittenAt).and(comment.id.gt(lastCommentId)));
+    }
+}
@@ -1,9 +1,14 @@
 package com.elice.ustory.domain.comment.service;
 
 import com.elice.ustory.domain.comment.dto.AddCommentRequest;
+import com.elice.ustory.domain.comment.dto.CommentCountResponse;
+import com.elice.ustory.domain.comment.dto.CommentList;
+import com.elice.ustory.domain.comment.dto.CommentListResponse;
+import com.elice.ustory.domain.comment.dto.CommentResponse;
 import com.elice.ustory.domain.comment.dto.UpdateCommentRequest;
 import com.elice.ustory.domain.comment.entity.Comment;
 import com.elice.ustory.domain.comment.repository.CommentRepository;
+import com.elice.ustory.domain.diary.service.RecentDiaryService;
 import com.elice.ustory.domain.notice.service.NoticeService;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.domain.paper.service.PaperService;
@@ -12,8 +17,8 @@ import com.elice.ustory.global.exception.model.NotFoundException;
 import jakarta.transaction.Transactional;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 
 @Service
 public class CommentService {
@@ -23,25 +28,45 @@ public class CommentService {
 
     private static final String NOT_FOUND_COMMENT_MESSAGE = "%d: 해당하는 댓글이 존재하지 않습니다.";
     private final NoticeService noticeService;
+    private final RecentDiaryService recentDiaryService;
 
     public CommentService(CommentRepository commentRepository, PaperService paperService,
-                          UserService userService, NoticeService noticeService) {
+                          UserService userService, NoticeService noticeService,
+                          RecentDiaryService recentDiaryService) {
         this.commentRepository = commentRepository;
         this.paperService = paperService;
         this.userService = userService;
         this.noticeService = noticeService;
+        this.recentDiaryService = recentDiaryService;
     }
 
-    public List<Comment> getComments(Long paperId, Long userId) {
-        Paper paper = paperService.getPaperById(paperId);
-        List<Comment> comments = commentRepository.findByPaper(paper);
-        return comments;
+    public List<CommentListResponse> getComments(Long paperId, Long userId, LocalDateTime lastWrittenAt, Long lastCommentId, Integer size) {
+        List<CommentList> comments = commentRepository.findCommentListByPaperId(paperId, lastWrittenAt, lastCommentId, size);
+
+        // 댓글이 없을 때만 페이퍼가 존재하는지 확인한다
+        if (comments.isEmpty() && lastCommentId == null) {
+            paperService.validatePaper(paperId);
+        }
+
+        return comments.stream()
+                .map(comment -> comment.toCommentListResponse(userId))
+                .toList();
     }
 
-    public Optional<Comment> getComment(Long paperId, Long id) {
-        Paper paper = paperService.getPaperById(paperId);
-        List<Comment> comments = commentRepository.findByPaper(paper);
-        return comments.stream().filter(comment -> comment.getId().equals(id)).findFirst();
+    public CommentCountResponse countComments(Long paperId) {
+        long count = commentRepository.countByPaperId(paperId);
+
+        if (count == 0) {
+            paperService.validatePaper(paperId);
+        }
+
+        return new CommentCountResponse(count);
+    }
+
+    public CommentResponse getComment(Long paperId, Long id) {
+        return commentRepository.findCommentByPaperIdAndId(paperId, id)
+                .map(CommentList::toCommentResponse)
+                .orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_COMMENT_MESSAGE, id)));
     }
 
     @Transactional
@@ -61,6 +86,8 @@ public class CommentService {
 
         paperService.noticeLocked(paper.getDiary(), paper);
 
+        recentDiaryService.touch(paper.getDiary());
+
         return savedComment;
     }
 
@@ -50,7 +50,7 @@ public class DiaryController {
         return ResponseEntity.status(HttpStatus.CREATED).body(addDiaryResponse);
     }
 
-    @Operation(summary = "Get User's Diary By User API", description = "유저가 속한 다이어리 목록 불러오기")
+    @Operation(summary = "Get User's Diary By User API", description = "유저가 속한 다이어리 목록 불러오기 <br> lastDiaryId에 이전 응답의 마지막 다이어리 id를 넘기면 page 대신 커서 기반으로 다음 목록을 불러옵니다. <br> prefixSearch가 true면 다이어리 이름이 searchWord로 시작하는 다이어리만 검색합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = DiaryListResponse.class)))),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -66,7 +66,9 @@ public class DiaryController {
             @RequestParam(name = "size", defaultValue = "10") int size,
             @RequestParam(name = "diaryCategory", required = false) DiaryCategory diaryCategory,
             @RequestParam(name = "requestTime") LocalDateTime requestTime,
-            @RequestParam(name = "searchWord", required = false) String searchWord) {
+            @RequestParam(name = "searchWord", required = false) String searchWord,
+            @RequestParam(name = "lastDiaryId", required = false) Long lastDiaryId,
+            @RequestParam(name = "prefixSearch", defaultValue = "false") boolean prefixSearch) {
         if(page<1){
             throw new ValidationException("페이지는 1 이상이어야 합니다.");
         }else if(size<1){
@@ -74,7 +76,7 @@ public class DiaryController {
         }
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        List<DiaryListResponse> userDiaries = diaryService.getUserDiaries(userId, pageable, diaryCategory, requestTime, searchWord);
+        List<DiaryListResponse> userDiaries = diaryService.getUserDiaries(userId, pageable, lastDiaryId, diaryCategory, requestTime, searchWord, prefixSearch);
 
         return ResponseEntity.ok(userDiaries);
     }
@@ -143,8 +145,9 @@ public class DiaryController {
         return ResponseEntity.ok(count);
     }
 
-    @Operation(summary = "Delete Diary", description = "다이어리 삭제")
+    @Operation(summary = "Delete Diary", description = "다이어리 삭제 <br> 페이퍼가 많은 다이어리는 비동기로 삭제되며 202와 함께 진행 상태를 반환합니다. 진행 상태는 삭제 상태 조회 API로 확인할 수 있습니다.")
     @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "Accepted", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DiaryDeletionResponse.class))),
             @ApiResponse(responseCode = "204", description = "No Content", content = @Content(mediaType = "application/json")),
             @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
             @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
@@ -152,10 +155,26 @@ public class DiaryController {
             @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
     })
     @DeleteMapping("/{diaryId}")
-    public ResponseEntity<Void> deleteDiary(@PathVariable("diaryId") Long diaryId) {
+    public ResponseEntity<DiaryDeletionResponse> deleteDiary(@PathVariable("diaryId") Long diaryId) {
         // 모든 사람들이 다이어리에서 나갔을 때 어떻게 처리할 지
-        diaryService.deleteDiary(diaryId);
-        return ResponseEntity.noContent().build();
+        DiaryDeletionResponse deletionResponse = diaryService.deleteDiary(diaryId);
+        if (deletionResponse == null) {
+            return ResponseEntity.noContent().build();
+        }
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(deletionResponse);
+    }
+
+    @Operation(summary = "Get Diary Deletion Status", description = "비동기로 진행 중인 다이어리 삭제 상태 조회")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = DiaryDeletionResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "404", description = "Not Found", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/{diaryId}/deletion")
+    public ResponseEntity<DiaryDeletionResponse> getDiaryDeletionStatus(@PathVariable("diaryId") Long diaryId) {
+        return ResponseEntity.ok(diaryService.getDiaryDeletionStatus(diaryId));
     }
 
     @Operation(summary = "Exit Diary", description = "다이어리 나가기")
@@ -0,0 +1,30 @@
+package com.elice.ustory.domain.diary.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DiaryDeletionResponse {
+
+    @Schema(description = "다이어리 아이디", example = "3")
+    private Long diaryId;
+
+    @Schema(description = "삭제 진행 상태 (IN_PROGRESS, COMPLETED, FAILED)", example = "IN_PROGRESS")
+    private String status;
+
+    @Schema(description = "삭제된 페이퍼 수", example = "1500")
+    private long deletedPaperCount;
+
+    @Schema(description = "삭제할 전체 페이퍼 수", example = "4000")
+    private long totalPaperCount;
+
+    public DiaryDeletionResponse(Long diaryId, String status, long deletedPaperCount, long totalPaperCount) {
+        this.diaryId = diaryId;
+        this.status = status;
+        this.deletedPaperCount = deletedPaperCount;
+        this.totalPaperCount = totalPaperCount;
+    }
+}
@@ -12,7 +12,7 @@ import static org.springframework.util.StringUtils.hasText;
 
 @Getter
 @Entity
-@Table(name = "diary")
+@Table(name = "diary", indexes = @Index(name = "idx_diary_name", columnList = "name"))
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Diary extends BaseEntity {
     @Id
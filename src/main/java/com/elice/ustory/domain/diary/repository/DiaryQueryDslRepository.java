@@ -0,0 +1,29 @@
+package com.elice.ustory.domain.diary.repository;
+
+import com.querydsl.core.Tuple;
+
+import java.util.List;
+
+public interface DiaryQueryDslRepository {
+
+    long countPapersByDiary(Long diaryId);
+
+    /**
+     * 다이어리에 속한 페이퍼의 (paper id, address id)를 paper id 오름차순으로, afterPaperId 이후부터 limit개 조회합니다.
+     */
+    List<Tuple> findPaperChunkByDiary(Long diaryId, Long afterPaperId, int limit);
+
+    /**
+     * 페이퍼와 페이퍼에 딸린 코멘트, 북마크, 이미지, 알림, 주소를 테이블별 벌크 DELETE로 삭제합니다.
+     * 외래 키 순서에 맞춰 참조하는 쪽부터 삭제합니다.
+     * 이미지 행만 삭제하며 S3 객체는 고아 이미지 정리 작업이 회수합니다.
+     *
+     * @return 삭제된 페이퍼 수
+     */
+    long deletePapersInBulk(List<Long> paperIds, List<Long> addressIds);
+
+    /**
+     * 다이어리 멤버와 다이어리를 벌크 DELETE로 삭제합니다.
+     */
+    void deleteDiaryInBulk(Long diaryId);
+}
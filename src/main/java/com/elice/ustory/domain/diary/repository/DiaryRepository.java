@@ -4,8 +4,6 @@ import com.elice.ustory.domain.diary.entity.Diary;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
-
 @Repository
-public interface DiaryRepository extends JpaRepository<Diary,Long> {
-}
\ No newline at end of file
+public interface DiaryRepository extends JpaRepository<Diary,Long>, DiaryQueryDslRepository {
+}
@@ -0,0 +1,78 @@
+package com.elice.ustory.domain.diary.repository;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.util.List;
+
+import static com.elice.ustory.domain.bookmark.entity.QBookmark.bookmark;
+import static com.elice.ustory.domain.comment.entity.QComment.comment;
+import static com.elice.ustory.domain.diary.entity.QDiary.diary;
+import static com.elice.ustory.domain.diaryUser.entity.QDiaryUser.diaryUser;
+import static com.elice.ustory.domain.address.QAddress.address;
+import static com.elice.ustory.domain.image.QImage.image;
+import static com.elice.ustory.domain.notice.entity.QNotice.notice;
+import static com.elice.ustory.domain.paper.entity.QPaper.paper;
+
+public class DiaryRepositoryImpl implements DiaryQueryDslRepository {
+
+    // 페이퍼 id를 requestId로 가지는 알림 타입 (코멘트 요청, 페이퍼 오픈)
+    private static final List<Integer> PAPER_NOTICE_TYPES = List.of(2, 4);
+
+    private final JPAQueryFactory queryFactory;
+
+    public DiaryRepositoryImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    @Override
+    public long countPapersByDiary(Long diaryId) {
+        Long count = queryFactory
+                .select(paper.count())
+                .from(paper)
+                .where(paper.diary.id.eq(diaryId))
+                .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public List<Tuple> findPaperChunkByDiary(Long diaryId, Long afterPaperId, int limit) {
+        return queryFactory
+                .select(paper.id, paper.address.id)
+                .from(paper)
+                .where(paper.diary.id.eq(diaryId)
+                        .and(paper.id.gt(afterPaperId)))
+                .orderBy(paper.id.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public long deletePapersInBulk(List<Long> paperIds, List<Long> addressIds) {
+        if (paperIds.isEmpty()) {
+            return 0;
+        }
+
+        queryFactory.delete(comment).where(comment.paper.id.in(paperIds)).execute();
+        queryFactory.delete(bookmark).where(bookmark.paper.id.in(paperIds)).execute();
+        queryFactory.delete(image).where(image.paper.id.in(paperIds)).execute();
+        queryFactory.delete(notice)
+                .where(notice.requestId.in(paperIds)
+                        .and(notice.messageType.in(PAPER_NOTICE_TYPES)))
+                .execute();
+        long deleted = queryFactory.delete(paper).where(paper.id.in(paperIds)).execute();
+
+        // 페이퍼가 주소를 참조하므로 페이퍼를 지운 뒤에 주소를 삭제한다
+        if (!addressIds.isEmpty()) {
+            queryFactory.delete(address).where(address.id.in(addressIds)).execute();
+        }
+        return deleted;
+    }
+
+    @Override
+    public void deleteDiaryInBulk(Long diaryId) {
+        queryFactory.delete(diaryUser).where(diaryUser.id.diary.id.eq(diaryId)).execute();
+        queryFactory.delete(diary).where(diary.id.eq(diaryId)).execute();
+    }
+}
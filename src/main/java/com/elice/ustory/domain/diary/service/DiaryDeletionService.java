@@ -0,0 +1,182 @@
+package com.elice.ustory.domain.diary.service;
+
+import com.elice.ustory.domain.bookmark.BookmarkedPaperCache;
+import com.elice.ustory.domain.diary.dto.DiaryDeletionResponse;
+import com.elice.ustory.domain.diary.repository.DiaryRepository;
+import com.elice.ustory.global.exception.model.InternalServerException;
+import com.elice.ustory.global.exception.model.NotFoundException;
+import com.querydsl.core.Tuple;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 다이어리와 하위 데이터(페이퍼, 이미지, 주소, 코멘트, 북마크, 알림, 다이어리 멤버)를 테이블별 벌크 DELETE로 삭제합니다.
+ * 페이퍼는 일정 개수씩 나누어 청크마다 별도 트랜잭션으로 삭제하므로 긴 락을 잡지 않으며,
+ * 페이퍼가 많은 다이어리는 비동기로 삭제하고 진행 상태를 Redis에 기록합니다.
+ * S3 객체(페이퍼 이미지, 썸네일, 다이어리 이미지)는 여기서 지우지 않으며, 참조가 사라진 객체는
+ * {@link com.elice.ustory.domain.image.OrphanImageCollector}가 유예 시간이 지난 뒤 정리합니다.
+ */
+@Slf4j
+@Service
+public class DiaryDeletionService {
+
+    private static final String DELETION_STATUS_KEY_PREFIX = "diaryDeletion:";
+    private static final Duration DELETION_STATUS_TTL = Duration.ofDays(1);
+    private static final int PAPER_CHUNK_SIZE = 500;
+    private static final long SYNC_DELETION_THRESHOLD = 500;
+
+    private static final String STATUS_IN_PROGRESS = "IN_PROGRESS";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+    private static final String STATUS_FAILED = "FAILED";
+
+    private static final String NOT_FOUND_DELETION_MESSAGE = "%d: 해당 다이어리의 삭제 진행 정보가 존재하지 않습니다.";
+    private static final String REJECTED_DELETION_MESSAGE = "다이어리 삭제 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final DiaryRepository diaryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ThreadPoolTaskExecutor diaryDeletionExecutor;
+    private final BookmarkedPaperCache bookmarkedPaperCache;
+
+    public DiaryDeletionService(DiaryRepository diaryRepository, TransactionTemplate transactionTemplate,
+                                StringRedisTemplate stringRedisTemplate,
+                                @Qualifier("diaryDeletionExecutor") ThreadPoolTaskExecutor diaryDeletionExecutor,
+                                BookmarkedPaperCache bookmarkedPaperCache) {
+        this.diaryRepository = diaryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.diaryDeletionExecutor = diaryDeletionExecutor;
+        this.bookmarkedPaperCache = bookmarkedPaperCache;
+    }
+
+    /**
+     * 다이어리를 삭제합니다.
+     * 페이퍼 수가 기준 이하라면 즉시 삭제하고, 기준을 넘으면 비동기로 삭제를 시작합니다.
+     *
+     * @param diaryId 삭제할 다이어리 ID
+     * @return 비동기로 삭제하는 경우 진행 상태, 즉시 삭제된 경우 null
+     */
+    public DiaryDeletionResponse delete(Long diaryId) {
+        long totalPaperCount = diaryRepository.countPapersByDiary(diaryId);
+        if (totalPaperCount <= SYNC_DELETION_THRESHOLD) {
+            deleteAll(diaryId, totalPaperCount, false);
+            return null;
+        }
+
+        // 이미 삭제가 진행 중이라면 새로 시작하지 않고 현재 상태를 반환
+        Boolean started = stringRedisTemplate.opsForValue()
+                .setIfAbsent(lockKey(diaryId), STATUS_IN_PROGRESS, DELETION_STATUS_TTL);
+        if (!Boolean.TRUE.equals(started)) {
+            return getStatus(diaryId);
+        }
+        saveStatus(diaryId, STATUS_IN_PROGRESS, 0, totalPaperCount);
+
+        try {
+            diaryDeletionExecutor.execute(() -> {
+                try {
+                    deleteAll(diaryId, totalPaperCount, true);
+                } catch (RuntimeException e) {
+                    log.error("[deleteDiary] 다이어리 삭제 실패 diaryId: {}", diaryId, e);
+                    hashOperations().put(statusKey(diaryId), "status", STATUS_FAILED);
+                } finally {
+                    stringRedisTemplate.delete(lockKey(diaryId));
+                }
+            });
+        } catch (TaskRejectedException e) {
+            stringRedisTemplate.delete(List.of(lockKey(diaryId), statusKey(diaryId)));
+            throw new InternalServerException(REJECTED_DELETION_MESSAGE);
+        }
+
+        return getStatus(diaryId);
+    }
+
+    /**
+     * 비동기 삭제의 진행 상태를 조회합니다.
+     */
+    public DiaryDeletionResponse getStatus(Long diaryId) {
+        Map<String, String> status = hashOperations().entries(statusKey(diaryId));
+        if (status.isEmpty()) {
+            throw new NotFoundException(String.format(NOT_FOUND_DELETION_MESSAGE, diaryId));
+        }
+
+        return new DiaryDeletionResponse(
+                diaryId,
+                status.get("status"),
+                Long.parseLong(status.getOrDefault("deleted", "0")),
+                Long.parseLong(status.getOrDefault("total", "0"))
+        );
+    }
+
+    private void deleteAll(Long diaryId, long totalPaperCount, boolean trackStatus) {
+        long afterPaperId = 0;
+        long deletedPaperCount = 0;
+
+        while (true) {
+            List<Tuple> chunk = diaryRepository.findPaperChunkByDiary(diaryId, afterPaperId, PAPER_CHUNK_SIZE);
+            if (chunk.isEmpty()) {
+                break;
+            }
+
+            List<Long> paperIds = new ArrayList<>(chunk.size());
+            List<Long> addressIds = new ArrayList<>(chunk.size());
+            for (Tuple tuple : chunk) {
+                paperIds.add(tuple.get(0, Long.class));
+                Long addressId = tuple.get(1, Long.class);
+                if (addressId != null) {
+                    addressIds.add(addressId);
+                }
+            }
+            afterPaperId = paperIds.get(paperIds.size() - 1);
+
+            Long deleted = transactionTemplate.execute(status -> {
+                // 북마크 행이 지워지기 전에 대상 사용자를 찾아 커밋 이후 북마크 캐시를 비운다
+                bookmarkedPaperCache.evictByPaperIds(paperIds);
+                return diaryRepository.deletePapersInBulk(paperIds, addressIds);
+            });
+            deletedPaperCount += deleted == null ? 0 : deleted;
+
+            if (trackStatus) {
+                saveStatus(diaryId, STATUS_IN_PROGRESS, deletedPaperCount, totalPaperCount);
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> diaryRepository.deleteDiaryInBulk(diaryId));
+
+        if (trackStatus) {
+            saveStatus(diaryId, STATUS_COMPLETED, deletedPaperCount, totalPaperCount);
+        }
+    }
+
+    private void saveStatus(Long diaryId, String status, long deletedPaperCount, long totalPaperCount) {
+        String key = statusKey(diaryId);
+        hashOperations().putAll(key, Map.of(
+                "status", status,
+                "deleted", String.valueOf(deletedPaperCount),
+                "total", String.valueOf(totalPaperCount)
+        ));
+        stringRedisTemplate.expire(key, DELETION_STATUS_TTL);
+    }
+
+    private HashOperations<String, String, String> hashOperations() {
+        return stringRedisTemplate.opsForHash();
+    }
+
+    private String statusKey(Long diaryId) {
+        return DELETION_STATUS_KEY_PREFIX + diaryId;
+    }
+
+    private String lockKey(Long diaryId) {
+        return DELETION_STATUS_KEY_PREFIX + diaryId + ":lock";
+    }
+}
@@ -3,17 +3,13 @@ package com.elice.ustory.domain.diary.service;
 import com.elice.ustory.domain.diary.dto.*;
 import com.elice.ustory.domain.diary.entity.Diary;
 import com.elice.ustory.domain.diary.entity.DiaryCategory;
-import com.elice.ustory.domain.diary.entity.QDiary;
 import com.elice.ustory.domain.diary.repository.DiaryRepository;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
-import com.elice.ustory.domain.diaryUser.entity.DiaryUserId;
 import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
-import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.ForbiddenException;
 import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.ValidationException;
-import com.querydsl.core.Tuple;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -21,10 +17,14 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
-import static com.elice.ustory.domain.user.entity.QUsers.users;
 import static org.springframework.util.StringUtils.hasText;
 
 @Service
@@ -33,10 +33,14 @@ public class DiaryService {
     private static final String NOT_FOUND_DIARY_MESSAGE = "%d: 해당하는 다이어리가 존재하지 않습니다.";
     private static final String NOT_FOUND_USER_MESSAGE = "%d: 해당하는 사용자가 존재하지 않습니다.";
     private static final String FORBIDDEN_DIARY_MESSAGE = "%d: 해당 다이어리에 대한 권한이 없습니다.";
+    private static final int HOME_DIARY_SIZE = 6;
+    private static final int MAX_DIARY_MEMBER_SIZE = 10;
 
     private final DiaryRepository diaryRepository;
     private final DiaryUserRepository diaryUserRepository;
     private final UserRepository userRepository;
+    private final RecentDiaryService recentDiaryService;
+    private final DiaryDeletionService diaryDeletionService;
 
     @Transactional
     public AddDiaryResponse createDiary(Long userId, Diary diary, List<String> userList) {
@@ -44,29 +48,21 @@ public class DiaryService {
             throw new ValidationException("개인 다이어리는 생성할 수 없습니다.");
         }
 
-        Diary savedDiary = diaryRepository.save(diary);
-
-        List<Users> friendList = diaryUserRepository.findFriendUsersByList(userId, userList);
-        if (friendList.size() != userList.size()) {
+        List<Long> friendIds = diaryUserRepository.findFriendIdsByList(userId, userList);
+        if (friendIds.size() != userList.size()) {
             // 친구가 아닌 인원을 다이어리에 추가할 때
             throw new ValidationException("해당하는 친구가 존재하지 않습니다.");
         }
-
-        for (Users friend : friendList) {
-            DiaryUserId diaryUserId = new DiaryUserId(savedDiary, friend);
-            diaryUserRepository.save(new DiaryUser(diaryUserId));
+        if (!userRepository.existsById(userId)) {
+            throw new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, userId));
         }
-        Users user = userRepository.findById(userId).orElseThrow(
-                () -> new NotFoundException(String.format(NOT_FOUND_USER_MESSAGE, userId))
-        );
-        DiaryUserId diaryUserId = new DiaryUserId(savedDiary, user);
-        diaryUserRepository.save(new DiaryUser(diaryUserId));
 
-        List<DiaryFriend> diaryFriends = new ArrayList<>();
-        for (Users users : friendList) {
-            diaryFriends.add(new DiaryFriend(users.getNickname(),users.getProfileImgUrl()));
-        }
-        diaryFriends.add(new DiaryFriend(user.getNickname(),user.getProfileImgUrl()));
+        Diary savedDiary = diaryRepository.save(diary);
+
+        List<Long> memberIds = new ArrayList<>(friendIds);
+        memberIds.add(userId);
+        diaryUserRepository.insertMembers(savedDiary.getId(), memberIds);
+        recentDiaryService.addMembers(memberIds, savedDiary);
 
         return new AddDiaryResponse(savedDiary.getId());
     }
@@ -108,35 +104,32 @@ public class DiaryService {
         updatedDiary.updateDiary(diary);
 
         // 다이어리에 유저가 추가된 경우
-        if (userList.size() >= diaryUserRepository.countUserByDiary(diaryId)) {
-            List<Tuple> usersByDiary = diaryUserRepository.findUsersByDiary(userId, diaryId, userList);
-            if (usersByDiary.size() > 9) {
-                // request를 보낸 유저까지 10명을 초과하는 경우
-                throw new ValidationException("다이어리 인원을 10명을 초과할 수 없습니다.");
-            } else if (usersByDiary.size() < userList.size() - 1) {
+        List<Long> memberIds = diaryUserRepository.findUserIdsByDiary(diaryId);
+        if (userList.size() >= memberIds.size()) {
+            List<Long> friendIds = diaryUserRepository.findFriendIdsByList(userId, userList);
+            if (friendIds.size() < userList.size() - 1) {
                 // 존재하지 않는 유저 닉네임이 보내진 경우
                 throw new NotFoundException("해당하는 친구가 존재하지 않습니다.");
             }
-            for (Tuple tuple : usersByDiary) {
-                Users user = tuple.get(users);
-                if (tuple.get(QDiary.diary.id) != null) {
-                    if (!userList.contains(user.getNickname())) {
-                        // 존 유저가 사라진 케이스
-                        throw new ValidationException("기존 다이어리의 유저가 모두 포함되지 않습니다.");
-                    }
-                } else {
-                    DiaryUserId diaryUserId = new DiaryUserId(updatedDiary, user);
-                    diaryUserRepository.save(new DiaryUser(diaryUserId));
-                }
+
+            Set<Long> currentMembers = new HashSet<>(memberIds);
+            List<Long> newMemberIds = friendIds.stream()
+                    .filter(id -> !currentMembers.contains(id))
+                    .toList();
+            if (memberIds.size() + newMemberIds.size() > MAX_DIARY_MEMBER_SIZE) {
+                throw new ValidationException("다이어리 인원을 10명을 초과할 수 없습니다.");
             }
+
+            diaryUserRepository.insertMembers(diaryId, newMemberIds);
         }
+        recentDiaryService.touch(updatedDiary);
 
         return new AddDiaryResponse(diaryId);
     }
 
-    public List<DiaryListResponse> getUserDiaries(Long userId, Pageable pageable, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord) {
+    public List<DiaryListResponse> getUserDiaries(Long userId, Pageable pageable, Long lastDiaryId, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord, boolean prefixSearch) {
         if(!hasText(searchWord)) searchWord = null;
-        List<DiaryList> diaryList = diaryUserRepository.searchDiary(userId, pageable, diaryCategory, dateTime, searchWord);
+        List<DiaryList> diaryList = diaryUserRepository.searchDiary(userId, pageable, lastDiaryId, diaryCategory, dateTime, searchWord, prefixSearch);
         List<DiaryListResponse> result = diaryList.stream()
                 .map(DiaryList::toDiaryListResponse)
                 .collect(Collectors.toList());
@@ -145,9 +138,23 @@ public class DiaryService {
     }
 
     public List<DiaryListResponse> getUserDiaryList(Long userId) {
-        List<DiaryList> result = diaryUserRepository.searchDiaryList(userId);
-        return result.stream()
-                .map(DiaryList::toDiaryListResponse)
+        List<Long> recentDiaryIds = recentDiaryService.getRecentDiaryIds(userId, HOME_DIARY_SIZE);
+        if (recentDiaryIds == null) {
+            // 캐시가 없으면 DB에서 조회하고 다음 요청부터 캐시를 사용하도록 적재
+            recentDiaryService.warmUp(userId);
+            List<DiaryList> result = diaryUserRepository.searchDiaryList(userId);
+            return result.stream()
+                    .map(DiaryList::toDiaryListResponse)
+                    .collect(Collectors.toList());
+        }
+
+        Map<Long, Diary> diaryMap = diaryRepository.findAllById(recentDiaryIds).stream()
+                .collect(Collectors.toMap(Diary::getId, Function.identity()));
+
+        return recentDiaryIds.stream()
+                .map(diaryMap::get)
+                .filter(Objects::nonNull)
+                .map(diary -> new DiaryListResponse(diary.getId(), diary.getName(), diary.getImgUrl(), diary.getDiaryCategory().getName()))
                 .collect(Collectors.toList());
     }
 
@@ -155,12 +162,20 @@ public class DiaryService {
         return diaryUserRepository.countDiaryByUser(userId);
     }
 
-    public void deleteDiary(Long diaryId) {
-        Diary diary = diaryRepository.findById(diaryId).orElseThrow(
-                () -> new NotFoundException(String.format(NOT_FOUND_DIARY_MESSAGE, diaryId))
-        );
+    /**
+     * @return 비동기로 삭제하는 경우 진행 상태, 즉시 삭제된 경우 null
+     */
+    public DiaryDeletionResponse deleteDiary(Long diaryId) {
+        if (!diaryRepository.existsById(diaryId)) {
+            throw new NotFoundException(String.format(NOT_FOUND_DIARY_MESSAGE, diaryId));
+        }
+        recentDiaryService.removeMembers(diaryUserRepository.findUserIdsByDiary(diaryId), diaryId);
+
+        return diaryDeletionService.delete(diaryId);
+    }
 
-        diaryRepository.delete(diary);
+    public DiaryDeletionResponse getDiaryDeletionStatus(Long diaryId) {
+        return diaryDeletionService.getStatus(diaryId);
     }
 
     public ExitResponse exitDiary(Long userId, Long diaryId) {
@@ -174,6 +189,7 @@ public class DiaryService {
             return new ExitResponse(false);
         } else {
             diaryUserRepository.delete(diaryUser);
+            recentDiaryService.removeMembers(List.of(userId), diaryId);
         }
 
         return new ExitResponse(true);
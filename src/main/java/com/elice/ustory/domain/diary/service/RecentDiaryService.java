@@ -0,0 +1,177 @@
+package com.elice.ustory.domain.diary.service;
+
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import com.querydsl.core.Tuple;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 사용자별로 최근 갱신된 다이어리를 Redis Sorted Set(score = 다이어리 updatedAt)으로 관리합니다.
+ * 홈 화면에서 매번 사용자의 전체 다이어리를 updatedAt으로 정렬하지 않도록 하기 위한 캐시이며,
+ * Redis 조회에 실패하거나 키가 없으면 null을 반환해 호출 측에서 DB로 조회하게 합니다.
+ * 다이어리가 없는 사용자도 매번 DB로 조회하지 않도록 빈 결과를 뜻하는 멤버만 가진 키를 남깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecentDiaryService {
+
+    private static final String RECENT_DIARY_KEY_PREFIX = "recentDiary:";
+    private static final Duration RECENT_DIARY_TTL = Duration.ofDays(7);
+    // 다이어리를 나가거나 삭제해도 홈 화면 개수를 채울 수 있도록 넉넉하게 보관한다
+    private static final int MAX_RECENT_DIARY_SIZE = 50;
+    private static final String EMPTY_MEMBER = "empty";
+    // 캐시가 없는 사용자는 다음 조회 시 DB에서 전체를 적재하므로, 키가 있을 때만 추가해 일부만 담긴 캐시를 만들지 않는다
+    // 빈 결과로 캐시된 키라면 빈 결과 멤버를 지우고 추가한다
+    private static final String ADD_IF_EXISTS_SCRIPT =
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "redis.call('ZREM', KEYS[1], ARGV[5]) " +
+            "redis.call('ZADD', KEYS[1], ARGV[1], ARGV[2]) " +
+            "redis.call('ZREMRANGEBYRANK', KEYS[1], 0, -(tonumber(ARGV[3]) + 1)) " +
+            "redis.call('EXPIRE', KEYS[1], ARGV[4]) " +
+            "end " +
+            "return 0";
+
+    private final DiaryUserRepository diaryUserRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 다이어리의 갱신 시간을 현재로 변경하고, 커밋 이후 다이어리 멤버 전원의 최근 목록에 반영합니다.
+     */
+    public void touch(Diary diary) {
+        LocalDateTime now = LocalDateTime.now();
+        diary.updateTime(now);
+
+        Long diaryId = diary.getId();
+        afterCommit(() -> {
+            List<Long> memberIds = diaryUserRepository.findUserIdsByDiary(diaryId);
+            addToRecent(memberIds, diaryId, now);
+        });
+    }
+
+    /**
+     * 새로 다이어리에 추가된 멤버들의 최근 목록에 다이어리를 반영합니다.
+     */
+    public void addMembers(List<Long> userIds, Diary diary) {
+        LocalDateTime updatedAt = diary.getUpdatedAt() != null ? diary.getUpdatedAt() : LocalDateTime.now();
+        Long diaryId = diary.getId();
+        afterCommit(() -> addToRecent(userIds, diaryId, updatedAt));
+    }
+
+    /**
+     * 멤버들의 최근 목록에서 다이어리를 제거합니다.
+     */
+    public void removeMembers(List<Long> userIds, Long diaryId) {
+        afterCommit(() -> {
+            try {
+                stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                    StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                    for (Long userId : userIds) {
+                        stringConnection.zRem(RECENT_DIARY_KEY_PREFIX + userId, String.valueOf(diaryId));
+                    }
+                    return null;
+                });
+            } catch (DataAccessException e) {
+                log.warn("[removeMembers] 최근 다이어리 캐시 제거 실패 diaryId: {}", diaryId, e);
+            }
+        });
+    }
+
+    /**
+     * 최근 갱신된 순서대로 다이어리 id를 조회합니다.
+     *
+     * @return 캐시가 없거나 Redis 조회에 실패한 경우 null, 다이어리가 없다고 캐시된 경우 빈 목록
+     */
+    public List<Long> getRecentDiaryIds(Long userId, int limit) {
+        try {
+            Set<String> diaryIds = stringRedisTemplate.opsForZSet()
+                    .reverseRange(RECENT_DIARY_KEY_PREFIX + userId, 0, limit - 1);
+            if (diaryIds == null || diaryIds.isEmpty()) {
+                return null;
+            }
+            return diaryIds.stream()
+                    .filter(diaryId -> !EMPTY_MEMBER.equals(diaryId))
+                    .map(Long::valueOf)
+                    .toList();
+        } catch (DataAccessException e) {
+            log.warn("[getRecentDiaryIds] 최근 다이어리 캐시 조회 실패 userId: {}", userId, e);
+            return null;
+        }
+    }
+
+    /**
+     * DB에서 사용자의 (다이어리 id, updatedAt) 목록을 읽어 캐시를 채웁니다.
+     * 다이어리가 없으면 빈 결과 멤버만 저장합니다.
+     */
+    public void warmUp(Long userId) {
+        List<Tuple> diaries = diaryUserRepository.findDiaryUpdatedAtByUser(userId);
+
+        String key = RECENT_DIARY_KEY_PREFIX + userId;
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                if (diaries.isEmpty()) {
+                    stringConnection.zAdd(key, -1, EMPTY_MEMBER);
+                }
+                for (Tuple tuple : diaries) {
+                    stringConnection.zAdd(key, toScore(tuple.get(1, LocalDateTime.class)), String.valueOf(tuple.get(0, Long.class)));
+                }
+                stringConnection.zRemRange(key, 0, -(MAX_RECENT_DIARY_SIZE + 1));
+                stringConnection.expire(key, RECENT_DIARY_TTL.getSeconds());
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[warmUp] 최근 다이어리 캐시 적재 실패 userId: {}", userId, e);
+        }
+    }
+
+    private void addToRecent(List<Long> userIds, Long diaryId, LocalDateTime updatedAt) {
+        String score = String.valueOf((long) toScore(updatedAt));
+        String maxSize = String.valueOf(MAX_RECENT_DIARY_SIZE);
+        String ttl = String.valueOf(RECENT_DIARY_TTL.getSeconds());
+        try {
+            stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                StringRedisConnection stringConnection = (StringRedisConnection) connection;
+                for (Long userId : userIds) {
+                    stringConnection.eval(ADD_IF_EXISTS_SCRIPT, ReturnType.INTEGER, 1,
+                            RECENT_DIARY_KEY_PREFIX + userId, score, String.valueOf(diaryId), maxSize, ttl, EMPTY_MEMBER);
+                }
+                return null;
+            });
+        } catch (DataAccessException e) {
+            log.warn("[addToRecent] 최근 다이어리 캐시 갱신 실패 diaryId: {}", diaryId, e);
+        }
+    }
+
+    private double toScore(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private void afterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
@@ -8,7 +8,7 @@ import lombok.NoArgsConstructor;
 
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "diary_users")
+@Table(name = "diary_users", indexes = @Index(name = "idx_diary_users_users_diary", columnList = "users_id, diary_id"))
 @Entity
 public class DiaryUser extends BaseEntity {
     @EmbeddedId
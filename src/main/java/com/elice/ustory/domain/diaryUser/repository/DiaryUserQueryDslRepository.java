@@ -4,31 +4,46 @@ import com.elice.ustory.domain.diary.dto.DiaryFriend;
 import com.elice.ustory.domain.diary.dto.DiaryList;
 import com.elice.ustory.domain.diary.entity.DiaryCategory;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
-import com.elice.ustory.domain.user.entity.Users;
 import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface DiaryUserQueryDslRepository {
     List<DiaryList> searchDiaryList(Long userId);
 
-    Long countUserByDiary(Long diaryId);
-
     Long countDiaryByUser(Long userId);
 
     List<String> findUserByDiary(Long diaryId);
 
-    List<Tuple> findUsersByDiary(Long userId, Long diaryId, List<String> userList);
-
-    List<DiaryList> searchDiary(Long userId, Pageable pageable, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord);
+    /**
+     * 사용자가 속한 다이어리 목록을 diary id 내림차순으로 조회합니다.
+     * lastDiaryId가 주어지면 offset 대신 해당 id 이전부터 조회하며, prefixSearch가 true면 이름 앞부분 일치로 검색합니다.
+     */
+    List<DiaryList> searchDiary(Long userId, Pageable pageable, Long lastDiaryId, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord, boolean prefixSearch);
 
     DiaryUser findDiaryUserById(Long userId, Long diaryId);
 
-    List<Users> findFriendUsersByList(Long userId, List<String> userList);
-
     List<DiaryFriend> findUsersByDiaryId(Long userId,Long diaryId);
 
+    List<Long> findUserIdsByDiary(Long diaryId);
+
+    List<Long> findFriendIdsByList(Long userId, List<String> userList);
+
+    /**
+     * 다이어리에 여러 멤버를 하나의 INSERT 문으로 추가합니다.
+     *
+     * @return 추가된 행 수
+     */
+    int insertMembers(Long diaryId, List<Long> userIds);
+
+    List<Tuple> findDiaryUpdatedAtByUser(Long userId);
+
+    List<Tuple> findMembershipEdges(long afterUserId, long afterDiaryId, int limit);
+
+    List<Tuple> findMembershipEdgesByUserIds(Collection<Long> userIds);
+
 }
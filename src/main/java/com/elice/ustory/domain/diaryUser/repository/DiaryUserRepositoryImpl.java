@@ -5,54 +5,64 @@ import com.elice.ustory.domain.diary.dto.DiaryList;
 import com.elice.ustory.domain.diary.entity.DiaryCategory;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
 import com.elice.ustory.domain.friend.entity.FriendStatus;
-import com.elice.ustory.domain.user.entity.Users;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 import static com.elice.ustory.domain.diary.entity.QDiary.diary;
 import static com.elice.ustory.domain.diaryUser.entity.QDiaryUser.diaryUser;
 import static com.elice.ustory.domain.friend.entity.QFriend.friend;
-import static com.elice.ustory.domain.user.entity.QUsers.users;
 
 public class DiaryUserRepositoryImpl implements DiaryUserQueryDslRepository {
+    private final EntityManager em;
     private final JPAQueryFactory queryFactory;
 
     public DiaryUserRepositoryImpl(EntityManager em) {
+        this.em = em;
         this.queryFactory = new JPAQueryFactory(em);
     }
 
     @Override
-    public List<DiaryList> searchDiary(Long userId, Pageable pageable, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord) {
+    public List<DiaryList> searchDiary(Long userId, Pageable pageable, Long lastDiaryId, DiaryCategory diaryCategory, LocalDateTime dateTime, String searchWord, boolean prefixSearch) {
 
-        return queryFactory
+        JPAQuery<DiaryList> query = queryFactory
                 .select(
                         Projections.constructor(
                                 DiaryList.class,
-                                diaryUser.id.diary.id,
-                                diaryUser.id.diary.name,
-                                diaryUser.id.diary.imgUrl,
-                                diaryUser.id.diary.diaryCategory
+                                diary.id,
+                                diary.name,
+                                diary.imgUrl,
+                                diary.diaryCategory
                         )
                 )
                 .from(diaryUser)
+                .join(diaryUser.id.diary, diary)
                 .where(
                         diaryUser.id.users.id.eq(userId)
-                                .and(diaryUser.id.diary.createdAt.loe(dateTime))
+                                .and(diary.createdAt.loe(dateTime))
+                                .and(diaryIdLt(lastDiaryId))
                                 .and(categoryEq(diaryCategory))
-                                .and(wordLike(searchWord))
+                                .and(wordLike(searchWord, prefixSearch))
                 )
-                .orderBy(diaryUser.id.diary.id.desc())
-                .offset(pageable.getOffset())
-                .limit(pageable.getPageSize())
-                .fetch();
+                .orderBy(diary.id.desc())
+                .limit(pageable.getPageSize());
+
+        // 커서가 주어지면 앞선 페이지를 건너뛰지 않고 인덱스에서 바로 이어서 읽는다
+        if (lastDiaryId == null) {
+            query.offset(pageable.getOffset());
+        }
+
+        return query.fetch();
     }
 
     @Override
@@ -73,17 +83,6 @@ public class DiaryUserRepositoryImpl implements DiaryUserQueryDslRepository {
                 .fetch();
     }
 
-    @Override
-    public Long countUserByDiary(Long diaryId) {
-        return queryFactory
-                .select(diaryUser.count())
-                .from(diaryUser)
-                .where(
-                        diaryUser.id.diary.id.eq(diaryId)
-                )
-                .fetchOne();
-    }
-
     @Override
     public Long countDiaryByUser(Long userId) {
         return queryFactory
@@ -106,71 +105,121 @@ public class DiaryUserRepositoryImpl implements DiaryUserQueryDslRepository {
                 .fetch();
     }
 
-    // Diary Update 시
     @Override
-    public List<Tuple> findUsersByDiary(Long userId, Long diaryId, List<String> userList) {
+    public DiaryUser findDiaryUserById(Long userId, Long diaryId) {
         return queryFactory
-                .select(friend.friendUser.as(users),
-                        diaryUser.id.diary.id.as(diary.id))
-                .from(friend)
-                .leftJoin(diaryUser)
-                .on(friend.friendUser.id.eq(diaryUser.id.users.id)
-                        .and(diaryUser.id.diary.id.eq(diaryId)))
+                .selectFrom(diaryUser)
                 .where(
-                        friend.user.id.eq(userId)
-                                .and(friend.status.eq(FriendStatus.ACCEPTED))
-                                .and(
-                                        friend.friendUser.nickname.in(userList)
-                                )
+                        diaryUser.id.users.id.eq(userId)
+                                .and(diaryUser.id.diary.id.eq(diaryId))
+                ).fetchOne();
+    }
+
+    @Override
+    public List<DiaryFriend> findUsersByDiaryId(Long userId,Long diaryId){
+        return queryFactory
+                .select(
+                        Projections
+                                .constructor(DiaryFriend.class,
+                                        diaryUser.id.users.nickname,
+                                        diaryUser.id.users.profileImgUrl)
                 )
+                .from(diaryUser)
+                .where(diaryUser.id.diary.id.eq(diaryId))
                 .fetch();
-
     }
 
     @Override
-    public DiaryUser findDiaryUserById(Long userId, Long diaryId) {
+    public List<Long> findUserIdsByDiary(Long diaryId) {
         return queryFactory
-                .selectFrom(diaryUser)
-                .where(
-                        diaryUser.id.users.id.eq(userId)
-                                .and(diaryUser.id.diary.id.eq(diaryId))
-                ).fetchOne();
+                .select(diaryUser.id.users.id)
+                .from(diaryUser)
+                .where(diaryUser.id.diary.id.eq(diaryId))
+                .fetch();
     }
 
-    // Diary Create 시
+    // Diary Create, Update 시
     @Override
-    public List<Users> findFriendUsersByList(Long userId, List<String> userList) {
+    public List<Long> findFriendIdsByList(Long userId, List<String> userList) {
         return queryFactory
-                .select(friend.friendUser.as(users))
+                .select(friend.friendUser.id)
                 .from(friend)
-                .where( friend.user.id.eq(userId)
-                    .and(friend.friendUser.nickname.in(userList))
+                .where(friend.user.id.eq(userId)
+                        .and(friend.friendUser.nickname.in(userList))
                         .and(friend.status.eq(FriendStatus.ACCEPTED))
                 )
                 .fetch();
     }
 
     @Override
-    public List<DiaryFriend> findUsersByDiaryId(Long userId,Long diaryId){
+    public int insertMembers(Long diaryId, List<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return em.createNativeQuery(
+                        "INSERT INTO diary_users (diary_id, users_id, created_at, updated_at) " +
+                                "SELECT :diaryId, u.id, :now, :now FROM users u " +
+                                "WHERE u.id IN (:userIds) AND u.deleted_at IS NULL")
+                .setParameter("diaryId", diaryId)
+                .setParameter("now", now)
+                .setParameter("userIds", userIds)
+                .executeUpdate();
+    }
+
+    // 최근 다이어리 캐시 적재용 (diary id, updatedAt)
+    @Override
+    public List<Tuple> findDiaryUpdatedAtByUser(Long userId) {
         return queryFactory
-                .select(
-                        Projections
-                                .constructor(DiaryFriend.class,
-                                        diaryUser.id.users.nickname,
-                                        diaryUser.id.users.profileImgUrl)
-                )
+                .select(diary.id, diary.updatedAt)
                 .from(diaryUser)
-                .where(diaryUser.id.diary.id.eq(diaryId))
+                .join(diaryUser.id.diary, diary)
+                .where(diaryUser.id.users.id.eq(userId))
+                .fetch();
+    }
+
+    // 친구 추천 시 다이어리 공유 여부 계산용 (users_id, diary_id) 오름차순
+    @Override
+    public List<Tuple> findMembershipEdges(long afterUserId, long afterDiaryId, int limit) {
+        return queryFactory
+                .select(diaryUser.id.users.id, diaryUser.id.diary.id)
+                .from(diaryUser)
+                .where(
+                        diaryUser.id.users.id.gt(afterUserId)
+                                .or(diaryUser.id.users.id.eq(afterUserId)
+                                        .and(diaryUser.id.diary.id.gt(afterDiaryId)))
+                )
+                .orderBy(diaryUser.id.users.id.asc(), diaryUser.id.diary.id.asc())
+                .limit(limit)
                 .fetch();
     }
 
+    @Override
+    public List<Tuple> findMembershipEdgesByUserIds(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory
+                .select(diaryUser.id.users.id, diaryUser.id.diary.id)
+                .from(diaryUser)
+                .where(diaryUser.id.users.id.in(userIds))
+                .orderBy(diaryUser.id.users.id.asc(), diaryUser.id.diary.id.asc())
+                .fetch();
+    }
 
     private BooleanExpression categoryEq(DiaryCategory diaryCategory) {
-        return diaryCategory != null ? diaryUser.id.diary.diaryCategory.eq(diaryCategory) : null;
+        return diaryCategory != null ? diary.diaryCategory.eq(diaryCategory) : null;
+    }
+
+    private BooleanExpression diaryIdLt(Long lastDiaryId) {
+        return lastDiaryId != null ? diary.id.lt(lastDiaryId) : null;
     }
 
-    private BooleanExpression wordLike(String searchWord) {
-        return searchWord != null ? diaryUser.id.diary.name.contains(searchWord) : null;
+    private BooleanExpression wordLike(String searchWord, boolean prefixSearch) {
+        if (searchWord == null) {
+            return null;
+        }
+        return prefixSearch ? diary.name.startsWith(searchWord) : diary.name.contains(searchWord);
     }
 
 }
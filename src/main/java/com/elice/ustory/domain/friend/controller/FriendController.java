@@ -5,7 +5,9 @@ import com.elice.ustory.domain.friend.dto.FriendRequestDto;
 import com.elice.ustory.domain.friend.dto.FriendRequestListDTO;
 import com.elice.ustory.domain.friend.dto.UserFriendDTO;
 import com.elice.ustory.domain.friend.dto.FriendResponseDto;
+import com.elice.ustory.domain.friend.dto.FriendSuggestionDTO;
 import com.elice.ustory.domain.friend.service.FriendService;
+import com.elice.ustory.domain.friend.service.FriendSuggestionService;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
 import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.jwt.JwtAuthorization;
@@ -32,9 +34,11 @@ import java.util.List;
 public class FriendController {
 
     private FriendService friendService;
+    private FriendSuggestionService friendSuggestionService;
 
-    public FriendController(FriendService friendService) {
+    public FriendController(FriendService friendService, FriendSuggestionService friendSuggestionService) {
         this.friendService = friendService;
+        this.friendSuggestionService = friendSuggestionService;
     }
 
     /**
@@ -167,6 +171,31 @@ public class FriendController {
         return ResponseEntity.noContent().build();
     }
 
+    /**
+     * 함께 아는 친구와 함께 속한 다이어리를 기준으로 친구를 추천합니다.
+     *
+     * @param userId 현재 사용자의 ID
+     * @param size 조회할 추천 수
+     * @return 추천 사용자 목록
+     */
+    @Operation(summary = "Get / Friend Suggestions", description = "함께 아는 친구 수와 함께 속한 다이어리 수를 기준으로 친구를 추천합니다. <br> 이미 친구이거나 친구 요청이 오간 사용자는 제외되며, 추천할 사용자가 없다면 빈 리스트를 출력합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", array = @ArraySchema(schema = @Schema(implementation = FriendSuggestionDTO.class)))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    @GetMapping("/suggestions")
+    public ResponseEntity<List<FriendSuggestionDTO>> getFriendSuggestions(@JwtAuthorization Long userId,
+                                                                          @RequestParam(name = "size", defaultValue = "10") int size) {
+        if (size < 1) {
+            throw new ValidationException("사이즈는 1 이상이어야 합니다.");
+        }
+
+        List<FriendSuggestionDTO> suggestions = friendSuggestionService.getSuggestions(userId, size);
+        return ResponseEntity.ok(suggestions);
+    }
+
 
     private void validateNickname(String nickname) {
         if (nickname == null || nickname.trim().isEmpty()) {
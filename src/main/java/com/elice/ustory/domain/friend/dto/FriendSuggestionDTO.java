@@ -0,0 +1,33 @@
+package com.elice.ustory.domain.friend.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+
+@Getter
+@Builder
+@AllArgsConstructor
+public class FriendSuggestionDTO {
+
+    @Schema(description = "추천 사용자의 이름", example = "김땡땡")
+    @NotNull
+    private final String name;
+
+    @Schema(description = "추천 사용자의 닉네임", example = "퐁퐁")
+    @NotNull
+    private final String nickname;
+
+    @Schema(description = "추천 사용자의 프로필이미지", example = "https://~")
+    @NotNull
+    private final String profileImgUrl;
+
+    @Schema(description = "함께 아는 친구 수", example = "3")
+    private final int mutualFriendCount;
+
+    @Schema(description = "함께 속한 다이어리 수", example = "1")
+    private final int sharedDiaryCount;
+
+}
@@ -3,9 +3,11 @@ package com.elice.ustory.domain.friend.repository;
 import com.elice.ustory.domain.friend.dto.FriendRequestListDTO;
 import com.elice.ustory.domain.friend.dto.UserFriendDTO;
 import com.elice.ustory.domain.friend.entity.FriendStatus;
+import com.querydsl.core.Tuple;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface FriendQueryDslRepository {
@@ -13,5 +15,20 @@ public interface FriendQueryDslRepository {
     List<FriendRequestListDTO> findFriendRequests(Long userId, LocalDateTime requestTime, Pageable pageable);
     boolean existsBySenderAndReceiverAndStatus(Long senderId, Long receiverId, FriendStatus status);
     boolean existsBySenderAndReceiver(Long senderId, Long receiverId);
+
+    /**
+     * 수락된 친구 관계를 (userId, friendId) 오름차순으로, 마지막으로 읽은 키 이후부터 limit개 조회합니다.
+     */
+    List<Tuple> findAcceptedFriendEdges(long afterUserId, long afterFriendId, int limit);
+
+    /**
+     * 주어진 사용자들의 수락된 친구 관계를 (userId, friendId) 오름차순으로 조회합니다.
+     */
+    List<Tuple> findAcceptedFriendEdgesByUserIds(Collection<Long> userIds);
+
+    /**
+     * 상태와 방향에 관계없이 친구 관계 테이블에서 사용자와 연결된 상대방 ID를 조회합니다.
+     */
+    List<Long> findRelatedUserIds(Long userId);
 }
 
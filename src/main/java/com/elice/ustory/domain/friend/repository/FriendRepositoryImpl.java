@@ -5,6 +5,7 @@ import com.elice.ustory.domain.friend.dto.UserFriendDTO;
 import com.elice.ustory.domain.friend.entity.FriendStatus;
 import com.elice.ustory.domain.friend.entity.QFriend;
 import com.elice.ustory.domain.user.entity.QUsers;
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.jpa.impl.JPAQueryFactory;
@@ -12,6 +13,8 @@ import jakarta.persistence.EntityManager;
 import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 
 public class FriendRepositoryImpl implements FriendQueryDslRepository {
@@ -93,4 +96,45 @@ public class FriendRepositoryImpl implements FriendQueryDslRepository {
                         .and(friend.id.friendId.eq(receiverId)))
                 .fetchFirst() != null;
     }
-}
\ No newline at end of file
+
+    @Override
+    public List<Tuple> findAcceptedFriendEdges(long afterUserId, long afterFriendId, int limit) {
+        QFriend friend = QFriend.friend;
+        return queryFactory.select(friend.id.userId, friend.id.friendId)
+                .from(friend)
+                .where(friend.status.eq(FriendStatus.ACCEPTED)
+                        .and(friend.id.userId.gt(afterUserId)
+                                .or(friend.id.userId.eq(afterUserId).and(friend.id.friendId.gt(afterFriendId)))))
+                .orderBy(friend.id.userId.asc(), friend.id.friendId.asc())
+                .limit(limit)
+                .fetch();
+    }
+
+    @Override
+    public List<Tuple> findAcceptedFriendEdgesByUserIds(Collection<Long> userIds) {
+        QFriend friend = QFriend.friend;
+        if (userIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return queryFactory.select(friend.id.userId, friend.id.friendId)
+                .from(friend)
+                .where(friend.id.userId.in(userIds)
+                        .and(friend.status.eq(FriendStatus.ACCEPTED)))
+                .orderBy(friend.id.userId.asc(), friend.id.friendId.asc())
+                .fetch();
+    }
+
+    @Override
+    public List<Long> findRelatedUserIds(Long userId) {
+        QFriend friend = QFriend.friend;
+        List<Long> related = new ArrayList<>(queryFactory.select(friend.id.friendId)
+                .from(friend)
+                .where(friend.id.userId.eq(userId))
+                .fetch());
+        related.addAll(queryFactory.select(friend.id.userId)
+                .from(friend)
+                .where(friend.id.friendId.eq(userId))
+                .fetch());
+        return related;
+    }
+}
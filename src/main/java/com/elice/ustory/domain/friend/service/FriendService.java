@@ -12,6 +12,7 @@ import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.ConflictException;
 import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.ValidationException;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -81,6 +82,7 @@ public class FriendService {
      * @param userId 요청을 보낸 사용자의 ID
      * @param friendRequestDto 친구 요청을 받을 사용자의 닉네임
      */
+    @Timed(value = "ustory.friend.request", description = "친구 요청")
     public void sendFriendRequest(Long userId, FriendRequestDto friendRequestDto) {
         Users sender = userRepository.findById(userId)
                 .orElseThrow(() -> new NotFoundException("Sender를 찾을 수 없습니다."));
@@ -0,0 +1,343 @@
+package com.elice.ustory.domain.friend.service;
+
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import com.elice.ustory.domain.friend.dto.FriendSuggestionDTO;
+import com.elice.ustory.domain.friend.repository.FriendRepository;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.global.redis.lock.RedisLock;
+import com.elice.ustory.global.util.SortedAdjacency;
+import com.querydsl.core.Tuple;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 친구의 친구를 함께 아는 친구 수와 함께 속한 다이어리 수로 점수를 매겨 추천합니다.
+ * 전체 친구 관계를 정렬된 long 배열로 적재해 주기적으로 사용자별 상위 K명을 Redis Sorted Set에 저장하고,
+ * 아직 계산되지 않은 사용자는 요청 시점에 주변 관계만 적재해 계산합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FriendSuggestionService {
+
+    private static final String SUGGESTION_KEY_PREFIX = "friendSuggestion:";
+    private static final String REFRESH_LOCK_KEY = "friendSuggestion:refreshLock";
+    private static final Duration REFRESH_LOCK_TTL = Duration.ofHours(1);
+    private static final int MUTUAL_FRIEND_WEIGHT = 10;
+    private static final int SHARED_DIARY_WEIGHT = 15;
+    private static final int EDGE_CHUNK_SIZE = 10000;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1000;
+    private static final int PIPELINE_USER_SIZE = 500;
+    private static final String MEMBER_DELIMITER = ":";
+    private static final String EMPTY_MEMBER = "empty";
+
+    private final FriendRepository friendRepository;
+    private final DiaryUserRepository diaryUserRepository;
+    private final UserRepository userRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final RedisLock redisLock;
+
+    @Value("${friend.suggestion.top-k:30}")
+    private int topK;
+
+    @Value("${friend.suggestion.ttl-hours:48}")
+    private long ttlHours;
+
+    /**
+     * 친구 추천 목록을 조회합니다.
+     * 이미 친구이거나 친구 요청이 오간 사용자, 탈퇴한 사용자는 제외됩니다.
+     *
+     * @param userId 조회할 사용자의 ID
+     * @param size   조회할 추천 수
+     * @return 점수가 높은 순서의 추천 목록
+     */
+    public List<FriendSuggestionDTO> getSuggestions(Long userId, int size) {
+        List<Suggestion> suggestions = readCachedSuggestions(userId);
+        if (suggestions == null) {
+            suggestions = computeSuggestion(userId);
+            storeSuggestions(Map.of(userId, suggestions));
+        }
+
+        Set<Long> related = new HashSet<>(friendRepository.findRelatedUserIds(userId));
+        List<Suggestion> filtered = suggestions.stream()
+                .filter(suggestion -> !related.contains(suggestion.getUserId()))
+                .limit(size)
+                .toList();
+        if (filtered.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, Users> userMap = userRepository.findAllById(filtered.stream().map(Suggestion::getUserId).toList())
+                .stream()
+                .collect(Collectors.toMap(Users::getId, Function.identity()));
+
+        List<FriendSuggestionDTO> result = new ArrayList<>();
+        for (Suggestion suggestion : filtered) {
+            Users user = userMap.get(suggestion.getUserId());
+            if (user == null) {
+                continue;
+            }
+            result.add(FriendSuggestionDTO.builder()
+                    .name(user.getName())
+                    .nickname(user.getNickname())
+                    .profileImgUrl(user.getProfileImgUrl())
+                    .mutualFriendCount(suggestion.getMutualFriendCount())
+                    .sharedDiaryCount(suggestion.getSharedDiaryCount())
+                    .build());
+        }
+        return result;
+    }
+
+    /**
+     * 전체 사용자의 추천 목록을 다시 계산해 Redis에 저장합니다.
+     * 여러 인스턴스가 동시에 실행하지 않도록 Redis 락을 잡은 인스턴스만 수행합니다.
+     */
+    @Scheduled(cron = "${friend.suggestion.refresh-cron:0 0 4 * * *}")
+    public void refreshAllSuggestions() {
+        String lockToken = redisLock.tryLock(REFRESH_LOCK_KEY, REFRESH_LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            long startTime = System.currentTimeMillis();
+            SortedAdjacency friends = loadAllFriendEdges();
+            SortedAdjacency diaries = loadAllMembershipEdges();
+
+            Map<Long, List<Suggestion>> buffer = new HashMap<>();
+            for (int index = 0; index < friends.nodeCount(); index++) {
+                long userId = friends.nodeAt(index);
+                buffer.put(userId, rank(userId, collectFriendsOfFriends(userId, friends), friends, diaries));
+
+                if (buffer.size() >= PIPELINE_USER_SIZE) {
+                    storeSuggestions(buffer);
+                    buffer.clear();
+                }
+            }
+            storeSuggestions(buffer);
+
+            log.info("[refreshAllSuggestions] 친구 추천 갱신 완료 users: {}, elapsed: {}ms",
+                    friends.nodeCount(), System.currentTimeMillis() - startTime);
+        } finally {
+            redisLock.unlock(REFRESH_LOCK_KEY, lockToken);
+        }
+    }
+
+    /**
+     * 사용자 한 명의 추천 목록을 주변 관계만 적재해 계산합니다.
+     */
+    private List<Suggestion> computeSuggestion(Long userId) {
+        List<Long> neighbourhood = new ArrayList<>();
+        neighbourhood.add(userId);
+        neighbourhood.addAll(friendRepository.findAcceptedFriendEdgesByUserIds(List.of(userId)).stream()
+                .map(tuple -> tuple.get(1, Long.class))
+                .toList());
+
+        SortedAdjacency friends = loadEdgesByUserIds(neighbourhood, friendRepository::findAcceptedFriendEdgesByUserIds);
+        long[] friendsOfFriends = collectFriendsOfFriends(userId, friends);
+
+        List<Long> members = new ArrayList<>();
+        members.add(userId);
+        for (int i = 0; i < friendsOfFriends.length; i++) {
+            if (i == 0 || friendsOfFriends[i] != friendsOfFriends[i - 1]) {
+                members.add(friendsOfFriends[i]);
+            }
+        }
+        SortedAdjacency diaries = loadEdgesByUserIds(members, diaryUserRepository::findMembershipEdgesByUserIds);
+
+        return rank(userId, friendsOfFriends, friends, diaries);
+    }
+
+    /**
+     * 친구들의 친구 ID를 모두 모아 정렬합니다.
+     * 정렬된 배열에서 같은 ID가 연속으로 나타나는 횟수가 곧 함께 아는 친구 수가 됩니다.
+     */
+    private long[] collectFriendsOfFriends(long userId, SortedAdjacency friends) {
+        int index = friends.indexOf(userId);
+        if (index < 0) {
+            return new long[0];
+        }
+
+        int total = 0;
+        for (int position = friends.start(index); position < friends.end(index); position++) {
+            total += friends.degree(friends.targetAt(position));
+        }
+
+        long[] buffer = new long[total];
+        int size = 0;
+        for (int position = friends.start(index); position < friends.end(index); position++) {
+            int friendIndex = friends.indexOf(friends.targetAt(position));
+            if (friendIndex < 0) {
+                continue;
+            }
+            for (int p = friends.start(friendIndex); p < friends.end(friendIndex); p++) {
+                buffer[size++] = friends.targetAt(p);
+            }
+        }
+
+        Arrays.sort(buffer, 0, size);
+        return size == total ? buffer : Arrays.copyOf(buffer, size);
+    }
+
+    private List<Suggestion> rank(long userId, long[] friendsOfFriends, SortedAdjacency friends, SortedAdjacency diaries) {
+        PriorityQueue<Suggestion> heap = new PriorityQueue<>(Comparator.comparingLong(Suggestion::getScore));
+
+        int i = 0;
+        while (i < friendsOfFriends.length) {
+            long candidate = friendsOfFriends[i];
+            int j = i;
+            while (j < friendsOfFriends.length && friendsOfFriends[j] == candidate) {
+                j++;
+            }
+            int mutualFriendCount = j - i;
+            i = j;
+
+            if (candidate == userId || friends.contains(userId, candidate)) {
+                continue;
+            }
+
+            int sharedDiaryCount = diaries.intersectionSize(userId, candidate);
+            long score = (long) mutualFriendCount * MUTUAL_FRIEND_WEIGHT + (long) sharedDiaryCount * SHARED_DIARY_WEIGHT;
+
+            if (heap.size() < topK) {
+                heap.offer(new Suggestion(candidate, mutualFriendCount, sharedDiaryCount, score));
+            } else if (heap.peek().getScore() < score) {
+                heap.poll();
+                heap.offer(new Suggestion(candidate, mutualFriendCount, sharedDiaryCount, score));
+            }
+        }
+
+        List<Suggestion> ranked = new ArrayList<>(heap);
+        ranked.sort(Comparator.comparingLong(Suggestion::getScore).reversed());
+        return ranked;
+    }
+
+    private SortedAdjacency loadAllFriendEdges() {
+        SortedAdjacency.Builder builder = SortedAdjacency.builder();
+        long afterUserId = -1;
+        long afterFriendId = -1;
+
+        List<Tuple> chunk;
+        do {
+            chunk = friendRepository.findAcceptedFriendEdges(afterUserId, afterFriendId, EDGE_CHUNK_SIZE);
+            for (Tuple tuple : chunk) {
+                afterUserId = tuple.get(0, Long.class);
+                afterFriendId = tuple.get(1, Long.class);
+                builder.add(afterUserId, afterFriendId);
+            }
+        } while (chunk.size() == EDGE_CHUNK_SIZE);
+
+        return builder.build();
+    }
+
+    private SortedAdjacency loadAllMembershipEdges() {
+        SortedAdjacency.Builder builder = SortedAdjacency.builder();
+        long afterUserId = -1;
+        long afterDiaryId = -1;
+
+        List<Tuple> chunk;
+        do {
+            chunk = diaryUserRepository.findMembershipEdges(afterUserId, afterDiaryId, EDGE_CHUNK_SIZE);
+            for (Tuple tuple : chunk) {
+                afterUserId = tuple.get(0, Long.class);
+                afterDiaryId = tuple.get(1, Long.class);
+                builder.add(afterUserId, afterDiaryId);
+            }
+        } while (chunk.size() == EDGE_CHUNK_SIZE);
+
+        return builder.build();
+    }
+
+    /**
+     * 사용자 ID를 정렬한 뒤 구간별로 나누어 조회하므로, 조회 결과를 이어 붙여도 (출발 ID, 도착 ID) 오름차순이 유지됩니다.
+     */
+    private SortedAdjacency loadEdgesByUserIds(List<Long> userIds, Function<Collection<Long>, List<Tuple>> finder) {
+        List<Long> sorted = userIds.stream().distinct().sorted().toList();
+        SortedAdjacency.Builder builder = SortedAdjacency.builder();
+
+        for (int from = 0; from < sorted.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = sorted.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, sorted.size()));
+            for (Tuple tuple : finder.apply(chunk)) {
+                builder.add(tuple.get(0, Long.class), tuple.get(1, Long.class));
+            }
+        }
+        return builder.build();
+    }
+
+    private List<Suggestion> readCachedSuggestions(Long userId) {
+        String key = SUGGESTION_KEY_PREFIX + userId;
+        Set<ZSetOperations.TypedTuple<String>> cached = stringRedisTemplate.opsForZSet().reverseRangeWithScores(key, 0, -1);
+        if (cached == null || cached.isEmpty()) {
+            return null;
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>();
+        for (ZSetOperations.TypedTuple<String> tuple : cached) {
+            if (EMPTY_MEMBER.equals(tuple.getValue())) {
+                continue;
+            }
+            String[] parts = tuple.getValue().split(MEMBER_DELIMITER);
+            suggestions.add(new Suggestion(
+                    Long.parseLong(parts[0]),
+                    Integer.parseInt(parts[1]),
+                    Integer.parseInt(parts[2]),
+                    tuple.getScore() == null ? 0 : tuple.getScore().longValue()
+            ));
+        }
+        return suggestions;
+    }
+
+    /**
+     * 사용자별 추천 목록을 파이프라인으로 한 번에 저장합니다.
+     * 추천 대상이 없는 사용자도 빈 결과를 다시 계산하지 않도록 빈 결과를 뜻하는 멤버만 가진 키를 남깁니다.
+     */
+    private void storeSuggestions(Map<Long, List<Suggestion>> suggestionsByUser) {
+        if (suggestionsByUser.isEmpty()) {
+            return;
+        }
+        long ttlSeconds = Duration.ofHours(ttlHours).getSeconds();
+
+        stringRedisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            suggestionsByUser.forEach((userId, suggestions) -> {
+                String key = SUGGESTION_KEY_PREFIX + userId;
+                stringConnection.del(key);
+                if (suggestions.isEmpty()) {
+                    stringConnection.zAdd(key, -1, EMPTY_MEMBER);
+                }
+                for (Suggestion suggestion : suggestions) {
+                    String member = suggestion.getUserId() + MEMBER_DELIMITER
+                            + suggestion.getMutualFriendCount() + MEMBER_DELIMITER
+                            + suggestion.getSharedDiaryCount();
+                    stringConnection.zAdd(key, suggestion.getScore(), member);
+                }
+                stringConnection.expire(key, ttlSeconds);
+            });
+            return null;
+        });
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class Suggestion {
+        private final long userId;
+        private final int mutualFriendCount;
+        private final int sharedDiaryCount;
+        private final long score;
+    }
+}
@@ -3,6 +3,8 @@ package com.elice.ustory.domain.image;
 import com.elice.ustory.domain.paper.entity.Paper;
 import com.elice.ustory.global.exception.ErrorCode;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.s3.ImageVariant;
+import com.elice.ustory.global.util.InputValidator;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.ForeignKey;
@@ -16,8 +18,6 @@ import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.util.stream.Stream;
-
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -41,16 +41,31 @@ public class Image {
     @Column(name = "sequence", nullable = false, columnDefinition = "tinyint")
     private int sequence;
 
+    @Column(name = "detail_variant_ready", nullable = false, columnDefinition = "tinyint default 0")
+    private int detailVariantReady;
+
     public Image(String imageUrl, int sequence) {
         this.imageUrl = validateUrl(validateUrlParam(imageUrl, sequence));
         this.sequence = sequence;
     }
 
     public Image update(String imageUrl) {
+        if (!imageUrl.equals(this.imageUrl)) {
+            this.detailVariantReady = 0;
+        }
         this.imageUrl = validateUrl(updateValidateParam(imageUrl));
         return this;
     }
 
+    public boolean isDetailVariantReady() {
+        return this.detailVariantReady == 1;
+    }
+
+    /** 상세용 변형 이미지가 준비되었다면 변형 URL을, 아니라면 원본 이미지 URL을 반환 */
+    public String getDetailImageUrl() {
+        return isDetailVariantReady() ? ImageVariant.DETAIL.urlOf(this.imageUrl) : this.imageUrl;
+    }
+
     public void setPaper(Paper paper){
         this.paper = paper;
 
@@ -76,13 +91,11 @@ public class Image {
     }
 
     private String validateUrl(String validateTarget) {
-        String[] suffixes = {".jpg", ".jpeg", ".png", ".gif"};
-
-        if (!validateTarget.startsWith("https://")) {
+        if (!InputValidator.hasImageUrlPrefix(validateTarget)) {
             throw new ValidationException("이미지의 시작은 https:// 입니다.", ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
 
-        if (Stream.of(suffixes).noneMatch(validateTarget::endsWith)) {
+        if (!InputValidator.hasImageExtension(validateTarget)) {
             throw new ValidationException(SUBFIX_NOT_MATCH, ErrorCode.PARAMETER_INCORRECT_FORMAT);
         }
 
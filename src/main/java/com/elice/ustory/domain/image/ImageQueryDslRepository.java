@@ -0,0 +1,17 @@
+package com.elice.ustory.domain.image;
+
+import java.util.Collection;
+import java.util.Set;
+
+public interface ImageQueryDslRepository {
+
+    /**
+     * 주어진 URL 중 이미지, 페이퍼 썸네일, 다이어리 이미지, 프로필 이미지로 사용 중인 URL을 조회하는 쿼리
+     */
+    Set<String> findReferencedUrls(Collection<String> urls);
+
+    /**
+     * 페이퍼의 이미지 URL이 그대로라면 상세용 변형 이미지 생성 완료로 표시
+     */
+    long markDetailVariantReady(Long paperId, String imageUrl);
+}
@@ -6,7 +6,7 @@ import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
-public interface ImageRepository extends JpaRepository<Image, Long> {
+public interface ImageRepository extends JpaRepository<Image, Long>, ImageQueryDslRepository {
 
     /**
      * Paper Id에 해당하는 Image들을 정렬하여 불러오는 쿼리
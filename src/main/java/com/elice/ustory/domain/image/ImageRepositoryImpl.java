@@ -0,0 +1,61 @@
+package com.elice.ustory.domain.image;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+
+import static com.elice.ustory.domain.diary.entity.QDiary.diary;
+import static com.elice.ustory.domain.image.QImage.image;
+import static com.elice.ustory.domain.paper.entity.QPaper.paper;
+import static com.elice.ustory.domain.user.entity.QUsers.users;
+
+@Repository
+@RequiredArgsConstructor
+public class ImageRepositoryImpl implements ImageQueryDslRepository {
+
+    private final JPAQueryFactory queryFactory;
+
+    // 삭제된 페이퍼나 탈퇴한 사용자의 이미지도 복구될 수 있으므로 참조 중인 것으로 본다
+    @Override
+    public Set<String> findReferencedUrls(Collection<String> urls) {
+        Set<String> referencedUrls = new HashSet<>();
+        if (urls.isEmpty()) {
+            return referencedUrls;
+        }
+
+        referencedUrls.addAll(queryFactory.select(image.imageUrl)
+                .from(image)
+                .where(image.imageUrl.in(urls))
+                .fetch());
+
+        referencedUrls.addAll(queryFactory.select(paper.thumbnailImageUrl)
+                .from(paper)
+                .where(paper.thumbnailImageUrl.in(urls))
+                .fetch());
+
+        referencedUrls.addAll(queryFactory.select(diary.imgUrl)
+                .from(diary)
+                .where(diary.imgUrl.in(urls))
+                .fetch());
+
+        referencedUrls.addAll(queryFactory.select(users.profileImgUrl)
+                .from(users)
+                .where(users.profileImgUrl.in(urls))
+                .fetch());
+
+        return referencedUrls;
+    }
+
+    @Override
+    public long markDetailVariantReady(Long paperId, String imageUrl) {
+        return queryFactory.update(image)
+                .set(image.detailVariantReady, 1)
+                .where(image.paper.id.eq(paperId),
+                        image.imageUrl.eq(imageUrl))
+                .execute();
+    }
+}
@@ -0,0 +1,114 @@
+package com.elice.ustory.domain.image;
+
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.elice.ustory.global.s3.ImageVariant;
+import com.elice.ustory.global.redis.lock.RedisLock;
+import com.elice.ustory.global.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 버킷의 images/ 아래 객체 중 어느 엔티티에서도 참조하지 않는 객체를 주기적으로 삭제합니다.
+ * 목록을 페이지 단위로 읽어 참조되지 않는 객체를 표시(mark)하고, 해당 페이지의 객체와 리사이즈 이미지를 한 번에 삭제(sweep)합니다.
+ * 업로드 직후 아직 페이퍼에 연결되지 않은 객체를 지우지 않도록, 일정 시간이 지난 객체만 대상으로 합니다.
+ * 다이어리 벌크 삭제({@link com.elice.ustory.domain.diary.service.DiaryDeletionService})는 S3 객체를 지우지 않으므로, 그 객체들도 이 작업이 회수합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OrphanImageCollector {
+
+    private static final String IMAGE_PREFIX = "images/";
+    private static final String SWEEP_LOCK_KEY = "orphanImageSweep:lock";
+    private static final Duration SWEEP_LOCK_TTL = Duration.ofHours(1);
+    // S3 DeleteObjects 요청은 한 번에 1000개까지 삭제할 수 있다
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final int LIST_PAGE_SIZE = DELETE_BATCH_SIZE / (ImageVariant.values().length + 1);
+
+    private final S3Service s3Service;
+    private final ImageRepository imageRepository;
+    private final RedisLock redisLock;
+
+    @Value("${image.orphan-sweep.grace-hours:24}")
+    private long graceHours;
+
+    @Scheduled(cron = "${image.orphan-sweep.cron:0 30 4 * * *}")
+    public void sweep() {
+        String lockToken = redisLock.tryLock(SWEEP_LOCK_KEY, SWEEP_LOCK_TTL);
+        if (lockToken == null) {
+            return;
+        }
+
+        try {
+            Instant threshold = Instant.now().minus(Duration.ofHours(graceHours));
+            long scanned = 0;
+            long deleted = 0;
+            String continuationToken = null;
+
+            do {
+                ListObjectsV2Result page = s3Service.listObjects(IMAGE_PREFIX, continuationToken, LIST_PAGE_SIZE);
+                scanned += page.getObjectSummaries().size();
+                deleted += sweepPage(page.getObjectSummaries(), threshold);
+                continuationToken = page.getNextContinuationToken();
+            } while (continuationToken != null);
+
+            log.info("[sweep] 고아 이미지 정리 완료, 확인: {}개, 삭제: {}개", scanned, deleted);
+        } catch (RuntimeException e) {
+            log.error("[sweep] 고아 이미지 정리 실패", e);
+        } finally {
+            redisLock.unlock(SWEEP_LOCK_KEY, lockToken);
+        }
+    }
+
+    private int sweepPage(List<S3ObjectSummary> objects, Instant threshold) {
+        // mark: 유예 시간이 지난 객체의 URL 후보 수집
+        Map<String, String> keyByUrl = new HashMap<>();
+        for (S3ObjectSummary object : objects) {
+            if (object.getLastModified().toInstant().isAfter(threshold)) {
+                continue;
+            }
+            for (String url : s3Service.getObjectUrls(object.getKey())) {
+                keyByUrl.put(url, object.getKey());
+            }
+        }
+        if (keyByUrl.isEmpty()) {
+            return 0;
+        }
+
+        Set<String> referencedUrls = imageRepository.findReferencedUrls(keyByUrl.keySet());
+        Set<String> referencedKeys = new HashSet<>();
+        for (String url : referencedUrls) {
+            referencedKeys.add(keyByUrl.get(url));
+        }
+
+        // sweep: 참조되지 않는 원본과 리사이즈 이미지 삭제
+        List<String> orphanKeys = new ArrayList<>();
+        List<String> deleteKeys = new ArrayList<>();
+        for (String key : new HashSet<>(keyByUrl.values())) {
+            if (referencedKeys.contains(key)) {
+                continue;
+            }
+            orphanKeys.add(key);
+            deleteKeys.add(key);
+            for (ImageVariant variant : ImageVariant.values()) {
+                deleteKeys.add(variant.keyOf(key));
+            }
+        }
+
+        s3Service.deleteObjects(deleteKeys);
+        return orphanKeys.size();
+    }
+}
@@ -4,13 +4,13 @@ import com.elice.ustory.domain.notice.dto.NoticeRequest;
 import com.elice.ustory.domain.notice.dto.NoticeResponse;
 import com.elice.ustory.domain.notice.entity.Notice;
 import com.elice.ustory.domain.notice.repository.NoticeRepository;
-import com.elice.ustory.domain.paper.repository.PaperRepository;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.UnauthorizedException;
 import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.util.NoticeUtils;
+import io.micrometer.core.annotation.Timed;
 import jakarta.transaction.Transactional;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -30,7 +30,6 @@ public class NoticeService {
 
     private final NoticeRepository noticeRepository;
     private final UserRepository userRepository;
-    private final PaperRepository paperRepository;
 
     /**
      * 특정 사용자의 모든 알림을 조회합니다.
@@ -44,36 +43,13 @@ public class NoticeService {
     }
 
 
-    private NoticeResponse convertToNoticeResponse(Notice notice) {
-        NoticeResponse noticeResponse = new NoticeResponse();
-        noticeResponse.setMessage(notice.getMessage());
-        noticeResponse.setTime(notice.getCreatedAt());
-
-        switch (notice.getMessageType()) {
-            case 1, 3 -> noticeResponse.setType("친구");
-            case 2 -> {
-                noticeResponse.setType("코멘트");
-                noticeResponse.setPaperId(notice.getResponseId());
-                noticeResponse.setTime(paperRepository.findById(noticeResponse.getPaperId())
-                        .orElseThrow(() -> new NotFoundException("페이퍼를 찾을 수 없습니다."))
-                        .getCreatedAt());
-            }
-            case 4 -> {
-                noticeResponse.setType("기록");
-                noticeResponse.setPaperId(notice.getResponseId());
-            }
-            default ->  throw new ValidationException("잘못된 메시지 타입입니다.");
-        }
-        return noticeResponse;
-    }
-
-
     /**
      * 공통 알림 전송 메서드
      *
      * @param noticeRequest 알림 DTO
      */
     @Transactional
+    @Timed(value = "ustory.notice.send", description = "알림 전송")
     public void sendNotice(@Valid NoticeRequest noticeRequest) {
 
         String message;
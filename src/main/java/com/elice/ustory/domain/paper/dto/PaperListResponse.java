@@ -1,6 +1,7 @@
 package com.elice.ustory.domain.paper.dto;
 
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.global.s3.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -15,6 +16,9 @@ public class PaperListResponse {
     @Schema(description = "썸네일 이미지", example = "https://~~~~~~")
     private String thumbnailImageUrl;
 
+    @Schema(description = "목록용 썸네일 이미지 <br> 리사이즈 이미지가 준비되지 않은 경우 원본 썸네일 이미지", example = "https://~~~~~~")
+    private String listThumbnailImageUrl;
+
     @Schema(description = "다이어리 이름", example = "꽁냥껑냥")
     private String diaryName;
 
@@ -27,6 +31,7 @@ public class PaperListResponse {
     public PaperListResponse(Paper paper) {
         this.title = paper.getTitle();
         this.thumbnailImageUrl = paper.getThumbnailImageUrl();
+        this.listThumbnailImageUrl = paper.getThumbnailImageUrl(ImageVariant.LIST);
         this.diaryName = paper.getDiary().getName();
         this.store = paper.getAddress().getStore();
         this.paperId = paper.getId();
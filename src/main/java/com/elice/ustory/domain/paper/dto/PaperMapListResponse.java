@@ -1,6 +1,7 @@
 package com.elice.ustory.domain.paper.dto;
 
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.global.s3.ImageVariant;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 
@@ -16,6 +17,8 @@ public class PaperMapListResponse {
     @Schema(description = "썸네일 URL", example = "https://~~~~")
     private String thumbnailImageUrl;
 
+    @Schema(description = "지도 핀용 썸네일 URL <br> 리사이즈 이미지가 준비되지 않은 경우 원본 썸네일 URL", example = "https://~~~~")
+    private String mapThumbnailImageUrl;
 
     @Schema(description = "상호명", example = "우규")
     private String store;
@@ -40,6 +43,7 @@ public class PaperMapListResponse {
         this.paperId = paper.getId();
         this.title = paper.getTitle();
         this.thumbnailImageUrl = paper.getThumbnailImageUrl();
+        this.mapThumbnailImageUrl = paper.getThumbnailImageUrl(ImageVariant.MAP);
         this.store = paper.getAddress().getStore();
         this.coordinateX = paper.getAddress().getCoordinateX();
         this.coordinateY = paper.getAddress().getCoordinateY();
@@ -2,6 +2,7 @@ package com.elice.ustory.domain.paper.dto;
 
 import com.elice.ustory.domain.image.Image;
 import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.global.s3.ImageVariant;
 import com.fasterxml.jackson.databind.annotation.JsonSerialize;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
@@ -19,9 +20,15 @@ public class PaperResponse {
     @Schema(description = "썸네일 URL", example = "https://~~~~~")
     private String thumbnailImageUrl;
 
+    @Schema(description = "상세용 썸네일 이미지 <br> 리사이즈 이미지가 준비되지 않은 경우 원본 썸네일 이미지", example = "https://~~~~~~")
+    private String detailThumbnailImageUrl;
+
     @Schema(description = "이미지 URL 리스트", example = "[\"https://~\", \"https://~\"]")
     private List<String> imageUrls;
 
+    @Schema(description = "상세용 이미지 URL 리스트 <br> 리사이즈 이미지가 준비되지 않은 이미지는 원본 이미지", example = "[\"https://~\", \"https://~\"]")
+    private List<String> detailImageUrls;
+
     @Schema(description = "방문 날짜", example = "2024.05.23 (목)")
     @JsonSerialize(using = LocalDateConverter.class)
     private LocalDate visitedAt;
@@ -66,6 +73,7 @@ public class PaperResponse {
 
         this.title = paper.getTitle();
         this.thumbnailImageUrl = paper.getThumbnailImageUrl();
+        this.detailThumbnailImageUrl = paper.getThumbnailImageUrl(ImageVariant.DETAIL);
         this.visitedAt = paper.getVisitedAt();
         this.city = paper.getAddress().getCity();
         this.store = paper.getAddress().getStore();
@@ -84,6 +92,9 @@ public class PaperResponse {
             this.imageUrls = paper.getImages().stream()
                     .map(Image::getImageUrl)
                     .collect(Collectors.toList());
+            this.detailImageUrls = paper.getImages().stream()
+                    .map(Image::getDetailImageUrl)
+                    .collect(Collectors.toList());
         }
 
         if (paper.getWriter().getId() == userId) {
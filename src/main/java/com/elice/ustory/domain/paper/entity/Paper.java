@@ -8,6 +8,8 @@ import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.global.entity.BaseEntity;
 import com.elice.ustory.global.exception.ErrorCode;
 import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.s3.ImageVariant;
+import com.elice.ustory.global.util.InputValidator;
 import jakarta.persistence.*;
 import jakarta.validation.constraints.Size;
 import lombok.*;
@@ -17,7 +19,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
 
 @Entity
 @Getter
@@ -75,17 +77,23 @@ public class Paper extends BaseEntity {
     @Setter
     private int unLocked;
 
+    @Column(name = "thumbnail_variants_ready", nullable = false, columnDefinition = "tinyint default 0")
+    private int thumbnailVariantsReady;
+
     @Builder(builderMethodName = "createBuilder")
     public Paper(String title, String thumbnailImageUrl, LocalDate visitedAt) {
-        this.title = validateParam(title, 20, "^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`]+$", "타이틀");
-        this.thumbnailImageUrl = validateUrl(validateParam(thumbnailImageUrl, 1000, "^.+$", "썸네일"));
+        this.title = validateParam(title, 20, InputValidator::isTitle, "타이틀");
+        this.thumbnailImageUrl = validateUrl(validateParam(thumbnailImageUrl, 1000, InputValidator::isSingleLine, "썸네일"));
         this.visitedAt = visitedAt;
         this.unLocked = 0;
     }
 
     public Paper update(String title, String thumbnailImageUrl, LocalDate visitedAt) {
-        this.title = validateParam(title, 20, "^[가-힣a-zA-Z0-9\\s!@#$%^&*()_+\\-=\\[\\]{};':\"\\\\|,.<>/?~`]+$", "타이틀");
-        this.thumbnailImageUrl = validateParam(thumbnailImageUrl, 1000, "^.+$", "썸네일");
+        this.title = validateParam(title, 20, InputValidator::isTitle, "타이틀");
+        if (!thumbnailImageUrl.equals(this.thumbnailImageUrl)) {
+            this.thumbnailVariantsReady = 0;
+        }
+        this.thumbnailImageUrl = validateParam(thumbnailImageUrl, 1000, InputValidator::isSingleLine, "썸네일");
         this.visitedAt = visitedAt;
 
         return this;
@@ -110,6 +118,15 @@ public class Paper extends BaseEntity {
         return false;
     }
 
+    public boolean isThumbnailVariantsReady() {
+        return this.thumbnailVariantsReady == 1;
+    }
+
+    /** 썸네일 변형 이미지가 준비되었다면 해당 변형 URL을, 아니라면 원본 썸네일 URL을 반환 */
+    public String getThumbnailImageUrl(ImageVariant variant) {
+        return isThumbnailVariantsReady() ? variant.urlOf(this.thumbnailImageUrl) : this.thumbnailImageUrl;
+    }
+
     public boolean unLock() {
 
         if (this.unLocked == 0) {
@@ -155,12 +172,12 @@ public class Paper extends BaseEntity {
         }
     }
 
-    private String validateParam(String validateTarget, int size, String regex, String fieldName) {
+    private String validateParam(String validateTarget, int size, Predicate<String> rule, String fieldName) {
         if (validateTarget.length() > size) {
             throw new ValidationException(String.format(PARAMETER_TOO_LONG, fieldName), ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
 
-        if (!validateTarget.matches(regex)) {
+        if (!rule.test(validateTarget)) {
             throw new ValidationException(String.format(WRONG_PARAMETER_FORMAT, fieldName), ErrorCode.PARAMETER_INCORRECT_FORMAT);
         }
 
@@ -168,13 +185,11 @@ public class Paper extends BaseEntity {
     }
 
     private String validateUrl(String validateTarget) {
-        String[] suffixes = {".jpg", ".jpeg", ".png", ".gif"};
-
-        if (!validateTarget.startsWith("https://")) {
+        if (!InputValidator.hasImageUrlPrefix(validateTarget)) {
             throw new ValidationException("썸네일이 특정 문자로 시작하지 않습니다.", ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
         }
 
-        if (Stream.of(suffixes).noneMatch(validateTarget::endsWith)) {
+        if (!InputValidator.hasImageExtension(validateTarget)) {
             throw new ValidationException("썸네일의 확장자를 확인해주세요. (.jpg, .jpeg, .png, .gif)", ErrorCode.PARAMETER_INCORRECT_FORMAT);
         }
 
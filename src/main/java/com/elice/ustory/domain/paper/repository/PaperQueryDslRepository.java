@@ -21,4 +21,9 @@ public interface PaperQueryDslRepository {
      *  정렬 기준은 생성날짜이다.
      */
     List<Paper> findByWriterId(Long writerId, LocalDateTime requestTime, Pageable pageable);
+
+    /**
+     * 썸네일이 그대로라면 썸네일 변형 이미지 생성 완료로 표시
+     */
+    long markThumbnailVariantsReady(Long paperId, String thumbnailImageUrl);
 }
@@ -34,6 +34,15 @@ public class PaperQueryDslRepositoryImpl implements PaperQueryDslRepository {
                 .fetch();
     }
 
+    @Override
+    public long markThumbnailVariantsReady(Long paperId, String thumbnailImageUrl) {
+        return queryFactory.update(paper)
+                .set(paper.thumbnailVariantsReady, 1)
+                .where(paper.id.eq(paperId),
+                        paper.thumbnailImageUrl.eq(thumbnailImageUrl))
+                .execute();
+    }
+
     private BooleanExpression startDateCondition(LocalDate startDate) {
         return startDate != null ? paper.createdAt.goe(startDate.atStartOfDay()) : null;
     }
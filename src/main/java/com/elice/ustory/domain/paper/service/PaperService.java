@@ -2,10 +2,12 @@ package com.elice.ustory.domain.paper.service;
 
 import com.elice.ustory.domain.address.Address;
 import com.elice.ustory.domain.address.AddressRepository;
+import com.elice.ustory.domain.bookmark.BookmarkedPaperCache;
 import com.elice.ustory.domain.comment.entity.Comment;
 import com.elice.ustory.domain.comment.repository.CommentRepository;
 import com.elice.ustory.domain.diary.entity.Diary;
 import com.elice.ustory.domain.diary.repository.DiaryRepository;
+import com.elice.ustory.domain.diary.service.RecentDiaryService;
 import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
 import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
 import com.elice.ustory.domain.image.Image;
@@ -20,13 +22,17 @@ import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
 import com.elice.ustory.global.exception.model.ForbiddenException;
 import com.elice.ustory.global.exception.model.NotFoundException;
+import com.elice.ustory.global.s3.S3Service;
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -38,7 +44,6 @@ public class PaperService {
     private static final String NOT_FOUND_PAPER_MESSAGE = "%d: 해당하는 페이퍼가 존재하지 않습니다.";
     private static final String NOT_FOUND_DIARY_MESSAGE = "%d: 해당하는 다이어리가 존재하지 않습니다.";
     private static final String NOT_FOUND_USER_MESSAGE = "%d: 해당하는 사용자가 존재하지 않습니다.";
-    private static final String NOT_FOUND_IN_DIARY_MESSAGE = "%s: 해당하는 사용자가 다이어리 내에 존재하지 않습니다.";
 
     private final PaperRepository paperRepository;
     private final AddressRepository addressRepository;
@@ -48,10 +53,26 @@ public class PaperService {
     private final DiaryUserRepository diaryUserRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
+    private final RecentDiaryService recentDiaryService;
+    private final PaperThumbnailService paperThumbnailService;
+    private final S3Service s3Service;
+    private final BookmarkedPaperCache bookmarkedPaperCache;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    /**
+     * S3 업로드 확인(HEAD 요청)은 DB 커넥션을 잡지 않도록 트랜잭션을 시작하기 전에 수행합니다.
+     */
+    @Timed(value = "ustory.paper.create", description = "페이퍼 생성")
     public Paper create(Long writerId, AddPaperRequest request) {
 
+        // 업로드가 완료된 이미지인지 확인
+        s3Service.validateUploaded(collectImageUrls(request.getThumbnailImageUrl(), request.getImageUrls()));
+
+        return transactionTemplate.execute(status -> createPaper(writerId, request));
+    }
+
+    private Paper createPaper(Long writerId, AddPaperRequest request) {
+
         // Paper 객체 생성
         Paper paper = request.toPaperEntity();
 
@@ -98,6 +119,13 @@ public class PaperService {
                 .build();
         commentRepository.save(commentEntity);
 
+        // 다이어리 갱신 시간 반영
+        recentDiaryService.touch(diary);
+
+        // 썸네일, 이미지 리사이즈 이미지 생성
+        paperThumbnailService.generateVariants(paper.getId(), paper.getThumbnailImageUrl());
+        paperThumbnailService.generateImageVariants(paper.getId(), images.stream().map(Image::getImageUrl).toList());
+
         // Comment 작성 알림 전송
         needCommentNotice(diary, paper);
 
@@ -108,9 +136,19 @@ public class PaperService {
         return validatePaper(Id);
     }
 
-    @Transactional
+    /**
+     * S3 업로드 확인(HEAD 요청)은 DB 커넥션을 잡지 않도록 트랜잭션을 시작하기 전에 수행합니다.
+     */
     public Paper update(Long userId, Long paperId, UpdatePaperRequest request) {
 
+        // 업로드가 완료된 이미지인지 확인
+        s3Service.validateUploaded(collectImageUrls(request.getThumbnailImageUrl(), request.getImageUrls()));
+
+        return transactionTemplate.execute(status -> updatePaper(userId, paperId, request));
+    }
+
+    private Paper updatePaper(Long userId, Long paperId, UpdatePaperRequest request) {
+
         // Paper 검증 및 불러오기
         Paper paper = validatePaper(paperId);
 
@@ -165,6 +203,20 @@ public class PaperService {
             imageRepository.delete(image);
         }
 
+        // 다이어리 갱신 시간 반영
+        recentDiaryService.touch(paper.getDiary());
+
+        // 썸네일이 바뀌었다면 리사이즈 이미지 다시 생성
+        if (!paper.isThumbnailVariantsReady()) {
+            paperThumbnailService.generateVariants(paper.getId(), paper.getThumbnailImageUrl());
+        }
+
+        // 새로 추가되거나 바뀐 이미지만 상세용 리사이즈 이미지 생성
+        paperThumbnailService.generateImageVariants(paper.getId(), paper.getImages().stream()
+                .filter(image -> !image.isDetailVariantReady())
+                .map(Image::getImageUrl)
+                .toList());
+
         return paper;
     }
 
@@ -209,6 +261,9 @@ public class PaperService {
         }
 
         paperRepository.save(findPaper);
+
+        // 삭제된 페이퍼는 북마크 여부 조회에서 빠지므로 북마크한 사용자들의 캐시를 비운다
+        bookmarkedPaperCache.evictByPaperIds(List.of(paperId));
     }
 
     public Paper validatePaper(Long paperId) {
@@ -222,6 +277,17 @@ public class PaperService {
         return paper;
     }
 
+    private List<String> collectImageUrls(String thumbnailImageUrl, List<String> imageUrls) {
+        List<String> urls = new ArrayList<>();
+        if (thumbnailImageUrl != null) {
+            urls.add(thumbnailImageUrl);
+        }
+        if (imageUrls != null) {
+            urls.addAll(imageUrls);
+        }
+        return urls;
+    }
+
     public Integer countPapersByWriterId(Long userId) {
         List<Paper> findByWriterId = paperRepository.findByWriterId(userId);
         for(Paper paper : findByWriterId) {
@@ -235,22 +301,20 @@ public class PaperService {
     // 작성자를 제외한 멤버들에게 코멘트를 달아달라고 알림 전송, 트랜잭션?
     //@Transactional?
     public void needCommentNotice(Diary diary, Paper paper) {
-        // 다이어리에 속해있는 유저의 닉네임으로 전부 저장
-        List<String> userFindByDiary = diaryUserRepository.findUserByDiary(diary.getId());
+        // 다이어리에 속해있는 유저의 ID를 한 번에 조회 (멤버별 닉네임 → 유저 조회를 하지 않도록)
+        List<Long> memberIds = diaryUserRepository.findUserIdsByDiary(diary.getId());
 
         // 속한 멤버들 중 작성자 제거하기
-        userFindByDiary.remove(paper.getWriter().getNickname());
-
-        // 작성자를 제외한 남은 멤버가 들어가있는 다이어리-유저 리스트에다가 알림 보내기
-        if (!userFindByDiary.isEmpty()) {
-            for (String nickName : userFindByDiary) {
-                NoticeRequest noticeRequest = NoticeRequest.builder()
-                        .responseId(userRepository.findByNickname(nickName).orElseThrow(() -> new NotFoundException(String.format(NOT_FOUND_IN_DIARY_MESSAGE, nickName))).getId())
-                        .paperId(paper.getId())
-                        .messageType(2)
-                        .build();
-                noticeService.sendNotice(noticeRequest);
-            }
+        memberIds.remove(paper.getWriter().getId());
+
+        // 작성자를 제외한 남은 멤버들에게 알림 보내기
+        for (Long memberId : memberIds) {
+            NoticeRequest noticeRequest = NoticeRequest.builder()
+                    .responseId(memberId)
+                    .paperId(paper.getId())
+                    .messageType(2)
+                    .build();
+            noticeService.sendNotice(noticeRequest);
         }
     }
 
@@ -0,0 +1,137 @@
+package com.elice.ustory.domain.paper.service;
+
+import com.elice.ustory.domain.image.ImageRepository;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.global.s3.ImageResizer;
+import com.elice.ustory.global.s3.ImageVariant;
+import com.elice.ustory.global.s3.S3Service;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.awt.image.BufferedImage;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 페이퍼 썸네일로부터 목록/지도/상세용, 페이퍼 이미지로부터 상세용 리사이즈 이미지를 생성해 원본과 같은 버킷에 저장합니다.
+ * 생성은 커밋 이후 전용 executor에서 수행하며, 모두 저장되면 페이퍼/이미지에 완료 여부를 기록해
+ * 그 전까지는 응답이 원본 URL을 그대로 사용하게 합니다.
+ */
+@Slf4j
+@Service
+public class PaperThumbnailService {
+
+    private static final String JPEG_CONTENT_TYPE = "image/jpeg";
+    // 원본은 가장 큰 변형 이미지 너비에 맞춰 줄여 읽는다
+    private static final int MAX_VARIANT_WIDTH = Arrays.stream(ImageVariant.values())
+            .mapToInt(ImageVariant::getWidth)
+            .max()
+            .orElseThrow();
+
+    private final S3Service s3Service;
+    private final PaperRepository paperRepository;
+    private final ImageRepository imageRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolTaskExecutor imageVariantExecutor;
+
+    public PaperThumbnailService(S3Service s3Service, PaperRepository paperRepository, ImageRepository imageRepository,
+                                 TransactionTemplate transactionTemplate,
+                                 @Qualifier("imageVariantExecutor") ThreadPoolTaskExecutor imageVariantExecutor) {
+        this.s3Service = s3Service;
+        this.paperRepository = paperRepository;
+        this.imageRepository = imageRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.imageVariantExecutor = imageVariantExecutor;
+    }
+
+    /**
+     * 커밋 이후 썸네일 변형 이미지 생성을 요청합니다.
+     */
+    public void generateVariants(Long paperId, String thumbnailImageUrl) {
+        runAfterCommit(() -> submit(paperId, () -> process(paperId, thumbnailImageUrl)));
+    }
+
+    /**
+     * 커밋 이후 페이퍼 이미지들의 상세용 변형 이미지 생성을 요청합니다.
+     */
+    public void generateImageVariants(Long paperId, List<String> imageUrls) {
+        if (imageUrls.isEmpty()) {
+            return;
+        }
+        runAfterCommit(() -> {
+            for (String imageUrl : imageUrls) {
+                submit(paperId, () -> processImage(paperId, imageUrl));
+            }
+        });
+    }
+
+    private void submit(Long paperId, Runnable task) {
+        try {
+            imageVariantExecutor.execute(task);
+        } catch (TaskRejectedException e) {
+            // 변형 이미지가 없어도 원본 이미지로 응답하므로 요청은 실패시키지 않는다
+            log.warn("[generateVariants] 이미지 변환 대기열이 가득 차 요청이 거절됨 paperId: {}", paperId);
+        }
+    }
+
+    private void runAfterCommit(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+
+    private void process(Long paperId, String thumbnailImageUrl) {
+        String originalKey = s3Service.getObjectKey(thumbnailImageUrl);
+        if (originalKey == null) {
+            return;
+        }
+
+        try {
+            BufferedImage original = ImageResizer.read(s3Service.getObjectBytes(originalKey), MAX_VARIANT_WIDTH);
+            for (ImageVariant variant : ImageVariant.values()) {
+                byte[] resized = ImageResizer.resizeToJpeg(original, variant.getWidth());
+                s3Service.putObject(variant.keyOf(originalKey), resized, JPEG_CONTENT_TYPE);
+            }
+        } catch (Exception e) {
+            log.warn("[process] 썸네일 변환 실패 paperId: {}, url: {}", paperId, thumbnailImageUrl, e);
+            return;
+        }
+
+        // 변환 도중 썸네일이 바뀌었다면 완료로 표시하지 않는다
+        transactionTemplate.executeWithoutResult(status ->
+                paperRepository.markThumbnailVariantsReady(paperId, thumbnailImageUrl));
+    }
+
+    private void processImage(Long paperId, String imageUrl) {
+        String originalKey = s3Service.getObjectKey(imageUrl);
+        if (originalKey == null) {
+            return;
+        }
+
+        try {
+            BufferedImage original = ImageResizer.read(s3Service.getObjectBytes(originalKey), ImageVariant.DETAIL.getWidth());
+            byte[] resized = ImageResizer.resizeToJpeg(original, ImageVariant.DETAIL.getWidth());
+            s3Service.putObject(ImageVariant.DETAIL.keyOf(originalKey), resized, JPEG_CONTENT_TYPE);
+        } catch (Exception e) {
+            log.warn("[processImage] 이미지 변환 실패 paperId: {}, url: {}", paperId, imageUrl, e);
+            return;
+        }
+
+        // 변환 도중 이미지가 바뀌었다면 완료로 표시하지 않는다
+        transactionTemplate.executeWithoutResult(status ->
+                imageRepository.markDetailVariantReady(paperId, imageUrl));
+    }
+}
@@ -2,7 +2,11 @@ package com.elice.ustory.domain.user.repository;
 
 import com.elice.ustory.domain.user.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
@@ -13,4 +17,15 @@ public interface UserRepository extends JpaRepository<Users, Long> {
     Optional<Users> findByEmail(String loginEmail);
     boolean existsByEmail(String loginEmail);
 
+    /**
+     * 저장된 해시가 oldPassword 그대로일 때만 비밀번호를 바꿉니다.
+     * 재해싱 도중 사용자가 비밀번호를 변경했다면 덮어쓰지 않습니다.
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE Users u SET u.password = :newPassword WHERE u.id = :userId AND u.password = :oldPassword")
+    int updatePasswordIfUnchanged(@Param("userId") Long userId,
+                                  @Param("oldPassword") String oldPassword,
+                                  @Param("newPassword") String newPassword);
+
 }
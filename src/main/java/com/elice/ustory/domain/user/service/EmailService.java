@@ -4,83 +4,168 @@ import com.elice.ustory.domain.user.dto.auth.*;
 import com.elice.ustory.domain.user.entity.EmailConfig;
 import com.elice.ustory.domain.user.entity.Users;
 import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.global.exception.model.InternalServerException;
 import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.jwt.JwtTokenProvider;
+import com.elice.ustory.global.mail.MailTemplate;
+import com.elice.ustory.global.mail.MailTemplateRenderer;
+import com.elice.ustory.global.ratelimit.RateLimiter;
 import com.elice.ustory.global.redis.email.AuthCode;
 import com.elice.ustory.global.redis.email.AuthCodeForChangePwd;
 import com.elice.ustory.global.redis.email.AuthCodeForChangePwdRepository;
 import com.elice.ustory.global.redis.email.AuthCodeRepository;
+import com.elice.ustory.global.util.AuthCodeGenerator;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.mail.MessagingException;
 import jakarta.mail.internet.MimeMessage;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.mail.MailException;
 import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.time.Instant;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Random;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailService {
+    // 같은 이메일로는 10분에 3번까지 인증 메일을 보낼 수 있다
+    private static final String AUTH_MAIL_RATE_LIMIT = "auth-mail-email";
+    private static final int AUTH_MAIL_CAPACITY = 3;
+    private static final int AUTH_MAIL_PERIOD_SECONDS = 600;
+    private static final String REJECTED_MAIL_MESSAGE = "메일 발송 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
     private final JavaMailSender javaMailSender;
     private final UserRepository userRepository;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthCodeRepository authCodeRepository;
     private final AuthCodeForChangePwdRepository authCodeForChangePwdRepository;
     private final EmailConfig emailConfig;
+    private final ThreadPoolTaskExecutor mailExecutor;
+    private final TaskScheduler mailRetryScheduler;
+    private final MailTemplateRenderer mailTemplateRenderer;
+    private final RateLimiter rateLimiter;
+    private final MeterRegistry meterRegistry;
     private String fromEmail;
 
+    @Value("${mail.retry.max-attempts:3}")
+    private int maxAttempts;
+
+    @Value("${mail.retry.backoff-millis:1000}")
+    private long backoffMillis;
+
+    public EmailService(JavaMailSender javaMailSender, UserRepository userRepository,
+                        JwtTokenProvider jwtTokenProvider, AuthCodeRepository authCodeRepository,
+                        AuthCodeForChangePwdRepository authCodeForChangePwdRepository, EmailConfig emailConfig,
+                        @Qualifier("mailExecutor") ThreadPoolTaskExecutor mailExecutor,
+                        @Qualifier("mailRetryScheduler") TaskScheduler mailRetryScheduler,
+                        MailTemplateRenderer mailTemplateRenderer, RateLimiter rateLimiter,
+                        MeterRegistry meterRegistry) {
+        this.javaMailSender = javaMailSender;
+        this.userRepository = userRepository;
+        this.jwtTokenProvider = jwtTokenProvider;
+        this.authCodeRepository = authCodeRepository;
+        this.authCodeForChangePwdRepository = authCodeForChangePwdRepository;
+        this.emailConfig = emailConfig;
+        this.mailExecutor = mailExecutor;
+        this.mailRetryScheduler = mailRetryScheduler;
+        this.mailTemplateRenderer = mailTemplateRenderer;
+        this.rateLimiter = rateLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
     @PostConstruct
     private void init() {
         fromEmail = emailConfig.getUsername(); // emailConfig 객체가 먼저 초기화된 후 getUsername() 메서드 호출
     }
 
-    public String generateAuthCode() {
-        int leftLimit = 48; // 숫자 '0'의 ASCII 코드
-        int rightLimit = 122; // 알파벳 'z'의 ASCII 코드
-        int stringLength = 6;
-        Random random = new Random();
-
-        return random.ints(leftLimit, rightLimit + 1) // leftLimit(포함) 부터 rightLimit+1(불포함) 사이의 난수 스트림 생성
-                .filter(i -> (i < 57 || i >= 65) && (i <= 90 || i >= 97)) // ASCII 테이블에서 숫자, 대문자, 소문자만 사용함
-                .limit(stringLength) // 생성된 난수를 지정된 길이로 잘라냄
-                .collect(StringBuilder::new, StringBuilder::appendCodePoint, StringBuilder::append) // 생성된 난수를 ASCII 테이블에서 대응되는 문자로 변환
-                .toString(); // StringBuilder 객체를 문자열로 변환해 반환
+    public void sendMail(String toEmail, String title, String content) throws MessagingException {
+        // 재시도 루프에서 내부 호출되므로 @Timed 대신 직접 기록한다
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String exception = "none";
+        try {
+            MimeMessage mimeMessage = javaMailSender.createMimeMessage(); // JavaMailSender 객체를 이용해 MimeMessage 객체 생성
+
+            mimeMessage.addRecipients(MimeMessage.RecipientType.TO, toEmail);
+            mimeMessage.setSubject(title);
+            mimeMessage.setFrom(fromEmail);
+            mimeMessage.setText(content, "utf-8", "html");
+
+            javaMailSender.send(mimeMessage);
+        } catch (MessagingException | RuntimeException e) {
+            exception = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("ustory.mail.send")
+                    .description("메일 발송")
+                    .tag("exception", exception)
+                    .register(meterRegistry));
+        }
     }
 
-    public void sendMail(String toEmail, String title, String content) throws MessagingException {
-        MimeMessage mimeMessage = javaMailSender.createMimeMessage(); // JavaMailSender 객체를 이용해 MimeMessage 객체 생성
+    /**
+     * 메일 발송을 메일 전용 executor에 맡기고 바로 반환한다.
+     * SMTP 오류가 나면 backoff를 두 배씩 늘려가며 최대 maxAttempts번까지 다시 시도한다.
+     * backoff 대기는 mailRetryScheduler가 맡으므로, 대기하는 동안 mailExecutor 스레드를 점유하지 않는다.
+     */
+    public void sendMailAsync(String toEmail, String title, String content) {
+        try {
+            mailExecutor.execute(() -> sendMailWithRetry(toEmail, title, content, 1, backoffMillis));
+        } catch (TaskRejectedException e) {
+            log.error("[sendMailAsync] 메일 발송 대기열이 가득 차 요청이 거절됨. 수신자: {}", toEmail);
+            throw new InternalServerException(REJECTED_MAIL_MESSAGE);
+        }
+    }
 
-        mimeMessage.addRecipients(MimeMessage.RecipientType.TO, toEmail);
-        mimeMessage.setSubject(title);
-        mimeMessage.setFrom(fromEmail);
-        mimeMessage.setText(content, "utf-8", "html");
+    private void sendMailWithRetry(String toEmail, String title, String content, int attempt, long delay) {
+        try {
+            sendMail(toEmail, title, content);
+        } catch (MessagingException | MailException e) {
+            if (attempt >= maxAttempts) {
+                log.error("[sendMailWithRetry] 메일 발송 실패. 수신자: {}, 시도 횟수: {}", toEmail, attempt, e);
+                return;
+            }
+            log.warn("[sendMailWithRetry] 메일 발송 실패, {}ms 후 재시도. 수신자: {}, 시도 횟수: {}", delay, toEmail, attempt);
+            scheduleRetry(toEmail, title, content, attempt + 1, delay);
+        }
+    }
 
-        javaMailSender.send(mimeMessage);
+    private void scheduleRetry(String toEmail, String title, String content, int attempt, long delay) {
+        try {
+            // 예약 스레드는 재시도를 mailExecutor에 넘기기만 하고 SMTP 호출은 하지 않는다
+            mailRetryScheduler.schedule(() -> {
+                try {
+                    mailExecutor.execute(() -> sendMailWithRetry(toEmail, title, content, attempt, delay * 2));
+                } catch (TaskRejectedException e) {
+                    log.error("[scheduleRetry] 메일 발송 대기열이 가득 차 재시도가 거절됨. 수신자: {}, 시도 횟수: {}", toEmail, attempt);
+                }
+            }, Instant.now().plusMillis(delay));
+        } catch (TaskRejectedException e) {
+            log.error("[scheduleRetry] 메일 재시도를 예약하지 못함. 수신자: {}, 시도 횟수: {}", toEmail, attempt);
+        }
     }
 
-    public AuthCodeCreateResponse sendValidateSignupMail(String toEmail) throws MessagingException {
+    public AuthCodeCreateResponse sendValidateSignupMail(String toEmail) {
+        rateLimiter.consume(AUTH_MAIL_RATE_LIMIT, RateLimiter.emailSubject(toEmail), AUTH_MAIL_CAPACITY, AUTH_MAIL_PERIOD_SECONDS);
+
         // 0. 이메일 중복 체크
         if (validateEmail(toEmail).getIsSuccess() == false) {
             throw new ValidationException("이미 가입된 이메일입니다.");
         };
 
         // 1. 메일 내용 생성
-        String authCode = generateAuthCode();
-        String title = "UStory 회원가입 인증코드입니다.";
-
-        StringBuilder contentBuilder = new StringBuilder();
-        contentBuilder.append("UStory에 방문해주셔서 감사합니다.<br><br>")
-                .append("인증 코드는 <code>")
-                .append(authCode)
-                .append("</code>입니다.<br>")
-                .append("인증 코드를 바르게 입력해주세요.");
-
-        String content = contentBuilder.toString();
+        String authCode = AuthCodeGenerator.generate();
+        String title = MailTemplate.SIGNUP.getTitle();
+        String content = mailTemplateRenderer.render(MailTemplate.SIGNUP, Map.of("authCode", authCode));
 
         // 2. 인증코드를 Redis에 저장
         AuthCode authCodeObject = AuthCode.builder()
@@ -89,11 +174,12 @@ public class EmailService {
                 .build();
         authCodeRepository.save(authCodeObject);
 
-        // 3. 메일 발송
-        sendMail(toEmail, title, content); // 생성된 메일 발송
+        // 3. 메일 발송 (Redis 저장 이후 비동기로 발송)
+        sendMailAsync(toEmail, title, content);
 
         // 4. api 결괏값 반환
-        log.info("[sendValidateSigunupResult] 인증코드 메일이 발송됨. 수신자 id : {}", userRepository.findByEmail(toEmail));
+        // 로그를 위해 사용자를 다시 조회하지 않는다
+        log.info("[sendValidateSigunupResult] 인증코드 메일 발송이 요청됨");
         AuthCodeCreateResponse authCodeCreateResponse = AuthCodeCreateResponse.builder()
                 .fromMail(fromEmail)
                 .toMail(toEmail)
@@ -144,9 +230,10 @@ public class EmailService {
                 .build();
     }
 
-    public ChangePwdCallResponse sendValidateUserMailForPwd(ChangePwdCallRequest changePwdCallRequest) throws MessagingException {
+    public ChangePwdCallResponse sendValidateUserMailForPwd(ChangePwdCallRequest changePwdCallRequest) {
         // 0. 이메일 유효 체크
         String toEmail = changePwdCallRequest.getToEmail();
+        rateLimiter.consume(AUTH_MAIL_RATE_LIMIT, RateLimiter.emailSubject(toEmail), AUTH_MAIL_CAPACITY, AUTH_MAIL_PERIOD_SECONDS);
         if (!userRepository.existsByEmail(toEmail)) {
             return ChangePwdCallResponse.builder()
                     .message("가입된 이메일이라면 인증코드가 발송됩니다.")
@@ -158,17 +245,9 @@ public class EmailService {
         }
 
         // 1. 메일 내용 생성
-        String authCode = generateAuthCode();
-        String title = "UStory 비밀번호 변경을 위한 인증코드입니다.";
-
-        StringBuilder contentBuilder = new StringBuilder();
-        contentBuilder.append("UStory에 방문해주셔서 감사합니다.<br><br>")
-                .append("인증 코드는 <code>")
-                .append(authCode)
-                .append("</code>입니다.<br>")
-                .append("인증 코드를 바르게 입력해주세요.");
-
-        String content = contentBuilder.toString();
+        String authCode = AuthCodeGenerator.generate();
+        String title = MailTemplate.CHANGE_PASSWORD.getTitle();
+        String content = mailTemplateRenderer.render(MailTemplate.CHANGE_PASSWORD, Map.of("authCode", authCode));
 
         // 2. 인증코드를 Redis에 저장
         AuthCodeForChangePwd authCodeForChangePwd = AuthCodeForChangePwd.builder()
@@ -177,8 +256,8 @@ public class EmailService {
                 .build();
         authCodeForChangePwdRepository.save(authCodeForChangePwd);
 
-        // 3. 메일 발송
-        sendMail(toEmail, title, content);
+        // 3. 메일 발송 (Redis 저장 이후 비동기로 발송)
+        sendMailAsync(toEmail, title, content);
 
         // 4. api 결괏값 반환
         return ChangePwdCallResponse.builder()
@@ -0,0 +1,98 @@
+package com.elice.ustory.domain.user.service;
+
+import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.global.exception.model.InternalServerException;
+import com.elice.ustory.global.exception.model.TooManyRequestsException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * bcrypt 비밀번호 검증을 전용 executor에서 수행합니다.
+ * 동시에 검증하는 수를 코어 수로 제한해 로그인 요청이 몰려도 다른 요청 스레드가 CPU를 빼앗기지 않게 하며,
+ * 대기열이 가득 차거나 대기 시간이 길어지면 바로 거절합니다.
+ */
+@Slf4j
+@Component
+public class PasswordVerifier {
+
+    private static final String BUSY_MESSAGE = "로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+    private static final String VERIFY_FAILED_MESSAGE = "비밀번호를 확인하는 과정에서 문제가 발생하였습니다.";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor passwordVerifyExecutor;
+    private final UserRepository userRepository;
+
+    @Value("${security.password-verify.timeout-millis:3000}")
+    private long timeoutMillis;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Qualifier("passwordVerifyExecutor") ThreadPoolTaskExecutor passwordVerifyExecutor,
+                            UserRepository userRepository) {
+        this.passwordEncoder = passwordEncoder;
+        this.passwordVerifyExecutor = passwordVerifyExecutor;
+        this.userRepository = userRepository;
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        Future<Boolean> result;
+        try {
+            result = passwordVerifyExecutor.submit(() -> passwordEncoder.matches(rawPassword, encodedPassword));
+        } catch (TaskRejectedException e) {
+            log.warn("[matches] 비밀번호 검증 대기열이 가득 차 요청이 거절됨");
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+        }
+
+        try {
+            return result.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            log.warn("[matches] 비밀번호 검증 대기 시간 초과");
+            throw new TooManyRequestsException(BUSY_MESSAGE);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(VERIFY_FAILED_MESSAGE);
+        } catch (ExecutionException e) {
+            log.error("[matches] 비밀번호 검증 실패", e.getCause());
+            throw new InternalServerException(VERIFY_FAILED_MESSAGE);
+        }
+    }
+
+    /**
+     * 저장된 해시의 작업 계수가 현재 설정보다 낮아 다시 해싱해야 하는지 확인합니다.
+     */
+    public boolean needsRehash(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    /**
+     * 현재 작업 계수로 다시 해싱해 저장하는 작업을 검증용 executor에 맡기고 바로 반환합니다.
+     * 해싱 비용이 검증과 같으므로 요청 스레드에서 수행하지 않으며, 대기열이 가득 차면 다음 로그인 때 다시 시도합니다.
+     */
+    public void rehashAsync(Long userId, String rawPassword, String encodedPassword) {
+        try {
+            passwordVerifyExecutor.execute(() -> {
+                try {
+                    int updated = userRepository.updatePasswordIfUnchanged(userId, encodedPassword, passwordEncoder.encode(rawPassword));
+                    if (updated == 0) {
+                        log.debug("[rehashAsync] 비밀번호가 이미 변경되어 재해싱을 건너뜀 userId: {}", userId);
+                    }
+                } catch (RuntimeException e) {
+                    log.warn("[rehashAsync] 비밀번호 재해싱 저장 실패 userId: {}", userId, e);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            log.debug("[rehashAsync] 비밀번호 검증 대기열이 가득 차 재해싱을 미룸 userId: {}", userId);
+        }
+    }
+}
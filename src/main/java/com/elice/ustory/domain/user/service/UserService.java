@@ -16,6 +16,7 @@ import com.elice.ustory.global.exception.model.NotFoundException;
 import com.elice.ustory.global.exception.model.UnauthorizedException;
 import com.elice.ustory.global.exception.model.ValidationException;
 import com.elice.ustory.global.jwt.JwtTokenProvider;
+import com.elice.ustory.global.ratelimit.RateLimiter;
 import com.elice.ustory.global.redis.refresh.RefreshTokenService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
@@ -32,6 +33,11 @@ import java.util.Optional;
 @Service
 @RequiredArgsConstructor
 public class UserService {
+    // 같은 이메일로는 5분에 10번까지 로그인을 시도할 수 있다
+    private static final String LOGIN_RATE_LIMIT = "login-email";
+    private static final int LOGIN_CAPACITY = 10;
+    private static final int LOGIN_PERIOD_SECONDS = 300;
+
     private final UserRepository userRepository;
     private final DiaryRepository diaryRepository;
     private final DiaryUserRepository diaryUserRepository;
@@ -39,6 +45,8 @@ public class UserService {
     private final JwtTokenProvider jwtTokenProvider;
     private final PasswordEncoder passwordEncoder;
     private final RefreshTokenService refreshTokenService;
+    private final RateLimiter rateLimiter;
+    private final PasswordVerifier passwordVerifier;
 
     public Users findById(Long userId) {
         return userRepository.findById(userId).orElseThrow();
@@ -199,21 +207,29 @@ public class UserService {
         String rawPassword = loginRequest.getPassword();
         LoginResponse loginResponse = new LoginResponse();
 
+        rateLimiter.consume(LOGIN_RATE_LIMIT, RateLimiter.emailSubject(id), LOGIN_CAPACITY, LOGIN_PERIOD_SECONDS);
+
         //TODO: 예외처리
         Users loginUser = userRepository.findByEmail(id)
                 .orElseThrow(() -> new NotFoundException("해당 이메일을 가진 유저를 찾을 수 없습니다."));
         String encodedPassword = loginUser.getPassword();
-        log.info("[getSignInResult] Id : {}", id);
+        log.debug("[getSignInResult] Id : {}", id);
 
-        if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+        if (!passwordVerifier.matches(rawPassword, encodedPassword)) {
             loginResponse.builder()
                     .accessToken(null)
                     .refreshToken(null)
                     .build();
             return loginResponse;
         }
-        log.info("[getLogInResult] 패스워드 일치");
-        log.info("[getLogInResult] LogInResponse 객체 생성");
+        log.debug("[getLogInResult] 패스워드 일치");
+
+        // 작업 계수가 바뀌었다면 현재 설정으로 다시 해싱해 저장 (검증용 executor에서 비동기로 수행)
+        if (passwordVerifier.needsRehash(encodedPassword)) {
+            passwordVerifier.rehashAsync(loginUser.getId(), rawPassword, encodedPassword);
+        }
+
+        log.debug("[getLogInResult] LogInResponse 객체 생성");
         String accessToken = jwtTokenProvider.createAccessToken(loginUser.getId());
 
         String refreshToken = jwtTokenProvider.createRefreshToken();
@@ -223,12 +239,12 @@ public class UserService {
                 .refreshToken(refreshToken)
                 .build();
 
-        log.info("[getLogInResult] LogInResponse 객체에 값 주입");
+        log.debug("[getLogInResult] LogInResponse 객체에 값 주입");
         response.addHeader("Authorization", accessToken);
 
         refreshTokenService.saveTokenInfo(loginUser.getId(), refreshToken, accessToken, 60 * 60 * 24 * 7);
 
-        log.info("[logIn] 정상적으로 로그인되었습니다. id : {}, token : {}", id, loginResponse.getAccessToken());
+        log.info("[logIn] 정상적으로 로그인되었습니다. id : {}", id);
         return loginResponse;
     }
 
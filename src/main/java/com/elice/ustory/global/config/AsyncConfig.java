@@ -0,0 +1,122 @@
+package com.elice.ustory.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+@Configuration
+public class AsyncConfig {
+
+    /**
+     * 대용량 다이어리 삭제용 executor
+     * 삭제는 테이블 락 경합을 줄이기 위해 적은 수의 스레드로 순차 처리한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor diaryDeletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("diary-deletion-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 인증 메일 발송용 executor
+     * SMTP 응답 지연이 요청 스레드에 전파되지 않도록 메일은 이 풀에서만 발송한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor mailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(500);
+        executor.setThreadNamePrefix("mail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * 메일 재시도 예약용 scheduler
+     * backoff 동안 mailExecutor 스레드가 잠들지 않도록, 대기는 이 scheduler가 맡고 재시도는 다시 mailExecutor에 넘긴다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler mailRetryScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("mail-retry-");
+        scheduler.setWaitForTasksToCompleteOnShutdown(true);
+        scheduler.setAwaitTerminationSeconds(30);
+        return scheduler;
+    }
+
+    /**
+     * {@code @Scheduled} 작업용 scheduler
+     * TaskScheduler 빈을 직접 등록하면 Spring Boot 기본 scheduler가 만들어지지 않으므로, 같은 설정(스레드 1개)으로 등록한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+
+    /**
+     * 로그인 비밀번호(bcrypt) 검증용 executor
+     * CPU 코어 수만큼만 동시에 해싱하고, 대기열이 가득 차면 요청 스레드를 붙잡지 않고 바로 거절한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor passwordVerifyExecutor(@Value("${security.password-verify.queue-capacity:32}") int queueCapacity) {
+        int processors = Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(processors);
+        executor.setMaxPoolSize(processors);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("password-verify-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        return executor;
+    }
+
+    /**
+     * S3 업로드 확인(HEAD 요청)용 executor
+     * 블로킹 I/O가 공용 ForkJoinPool을 점유하지 않도록 분리하며, 대기열이 가득 차면 요청 스레드에서 직접 확인해 속도를 조절한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor s3CheckExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(8);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("s3-check-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * 썸네일 리사이즈 이미지 생성용 executor
+     * 이미지 디코딩/인코딩은 메모리를 많이 사용하므로 동시에 처리하는 수를 작게 유지한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor imageVariantExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("image-variant-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
@@ -1,6 +1,8 @@
 package com.elice.ustory.global.config;
 
 import com.elice.ustory.global.interceptor.JwtInterceptor;
+import com.elice.ustory.global.interceptor.QueryCountInterceptor;
+import com.elice.ustory.global.interceptor.RateLimitInterceptor;
 import com.elice.ustory.global.jwt.JwtUtil;
 import com.elice.ustory.global.resolver.JwtAuthorizationArgumentResolver;
 import lombok.RequiredArgsConstructor;
@@ -17,9 +19,16 @@ import java.util.List;
 public class WebMvcConfig implements WebMvcConfigurer {
     private final JwtUtil jwtUtil;
     private final JwtAuthorizationArgumentResolver jwtAuthorizationArgumentResolver;
+    private final RateLimitInterceptor rateLimitInterceptor;
+    private final QueryCountInterceptor queryCountInterceptor;
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        // 다른 인터셉터보다 먼저 시작해 인증 과정의 쿼리까지 집계한다
+        registry.addInterceptor(queryCountInterceptor);
+        // 요청 제한은 인증 여부와 관계없이 먼저 적용한다
+        registry.addInterceptor(rateLimitInterceptor)
+                .addPathPatterns("/user/**");
         registry.addInterceptor(new JwtInterceptor(jwtUtil))
                 .excludePathPatterns("/swagger-resources/**", "/swagger-ui/**", "/v3/api-docs/**",
                         "/user/sign-up/**", "/user/login", "/user/validate-nickname");
@@ -32,9 +32,15 @@ public enum ErrorCode {
     // Conflict Exception: 409
     CONFLICT_EXCEPTION("C001", "중복된 정보입니다."),
 
+    // Payload Too Large Exception: 413
+    PAYLOAD_TOO_LARGE_EXCEPTION("P001", "요청 크기 제한을 초과하였습니다."),
+
     // Unsupported Media Type Exception: 415
     UNSUPPORTED_MEDIA_TYPE_EXCEPTION("MT01", "지원되지 않는 미디어 타입입니다."),
 
+    // Too Many Requests Exception: 429
+    TOO_MANY_REQUESTS_EXCEPTION("T001", "요청 횟수 제한을 초과하였습니다."),
+
     // Internal Server Exception: 500
     INTERNAL_SERVER_EXCEPTION("I001", "서버 내부에서 에러가 발생하였습니다."),
     ;
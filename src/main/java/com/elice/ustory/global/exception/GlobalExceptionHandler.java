@@ -16,6 +16,7 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.UnsatisfiedServletRequestParameterException;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.servlet.NoHandlerFoundException;
 
 @RequiredArgsConstructor
@@ -30,6 +31,8 @@ public class GlobalExceptionHandler {
     private static final String NOT_FOUND_LOG_MESSAGE = "Not found error occurred: ";
     private static final String METHOD_NOT_ALLOWED_LOG_MESSAGE = "Method not allowed: ";
     private static final String CONFLICT_LOG_MESSAGE = "Conflict error occurred: ";
+    private static final String TOO_MANY_REQUESTS_LOG_MESSAGE = "Too many requests: ";
+    private static final String PAYLOAD_TOO_LARGE_LOG_MESSAGE = "Payload too large: ";
     private static final String UNSUPPORTED_MEDIA_TYPE_LOG_MESSAGE = "Unsupported Media Type error occurred: ";
     private static final String INTERNAL_SERVER_LOG_MESSAGE = "Internal server error occurred: ";
 
@@ -123,6 +126,32 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(new ErrorResponse(ex), HttpStatus.CONFLICT);
     }
 
+    /** Too Many Requests Exception */
+    @ExceptionHandler(TooManyRequestsException.class)
+    public ResponseEntity<ErrorResponse> handleTooManyRequestsException(TooManyRequestsException ex) {
+
+        logger.warn(TOO_MANY_REQUESTS_LOG_MESSAGE + ex.getMessage());
+
+        return new ResponseEntity<>(new ErrorResponse(ex), HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    /**
+     * Payload Too Large Exception
+     *
+     * 업로드 크기 제한(cloud.s3.upload.max-size-bytes, S3Config의 MultipartConfigElement)을 넘은 요청은 MaxUploadSizeExceededException 을 통해 핸들링
+     */
+    @ExceptionHandler({PayloadTooLargeException.class, MaxUploadSizeExceededException.class})
+    public ResponseEntity<ErrorResponse> handlePayloadTooLargeException(Exception ex) {
+
+        logger.warn(PAYLOAD_TOO_LARGE_LOG_MESSAGE + ex.getMessage());
+
+        CustomException customException = ex instanceof PayloadTooLargeException payloadTooLargeException
+                ? payloadTooLargeException
+                : new PayloadTooLargeException(ex.getMessage());
+
+        return new ResponseEntity<>(new ErrorResponse(customException), HttpStatus.PAYLOAD_TOO_LARGE);
+    }
+
     /** Unsupported Media Type Exception */
     @ExceptionHandler(HttpMediaTypeNotSupportedException.class)
     public ResponseEntity<ErrorResponse> handleMediaTypeNotSupportedException(HttpMediaTypeNotSupportedException ex) {
@@ -0,0 +1,13 @@
+package com.elice.ustory.global.exception.model;
+
+import com.elice.ustory.global.exception.ErrorCode;
+
+public class PayloadTooLargeException extends CustomException {
+    public PayloadTooLargeException(String message, ErrorCode errorCode) {
+        super(message, errorCode);
+    }
+
+    public PayloadTooLargeException(String message) {
+        super(message, ErrorCode.PAYLOAD_TOO_LARGE_EXCEPTION);
+    }
+}
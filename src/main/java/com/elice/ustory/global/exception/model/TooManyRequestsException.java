@@ -0,0 +1,13 @@
+package com.elice.ustory.global.exception.model;
+
+import com.elice.ustory.global.exception.ErrorCode;
+
+public class TooManyRequestsException extends CustomException {
+    public TooManyRequestsException(String message, ErrorCode errorCode) {
+        super(message, errorCode);
+    }
+
+    public TooManyRequestsException(String message) {
+        super(message, ErrorCode.TOO_MANY_REQUESTS_EXCEPTION);
+    }
+}
@@ -0,0 +1,48 @@
+package com.elice.ustory.global.filter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jetbrains.annotations.NotNull;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * 요청마다 한 줄의 access log를 key=value 형식으로 남깁니다.
+ * 쿼리 스트링과 헤더에는 토큰 등 민감한 값이 담길 수 있어 기록하지 않습니다.
+ * 클라이언트 IP는 요청 제한과 같이 컨테이너가 신뢰하는 프록시 기준으로 결정한 request.getRemoteAddr()를 사용합니다.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class AccessLogFilter extends OncePerRequestFilter {
+
+    private static final Logger ACCESS_LOG = LoggerFactory.getLogger("ACCESS");
+
+    @Override
+    protected void doFilterInternal(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                    @NotNull FilterChain filterChain) throws ServletException, IOException {
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (ACCESS_LOG.isInfoEnabled()) {
+                ACCESS_LOG.info("method={} uri={} status={} duration_ms={} ip={}",
+                        request.getMethod(), request.getRequestURI(), response.getStatus(),
+                        (System.nanoTime() - start) / 1_000_000, request.getRemoteAddr());
+            }
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(@NotNull HttpServletRequest request) {
+        // 지표 수집과 헬스 체크 요청은 기록하지 않는다
+        return request.getRequestURI().startsWith("/actuator");
+    }
+}
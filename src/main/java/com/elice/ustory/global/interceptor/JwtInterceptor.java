@@ -41,15 +41,16 @@ public class JwtInterceptor implements HandlerInterceptor {
             if (requiresAuthorization) {
                 String accessToken = jwtUtil.getTokenFromRequest(request);
 
-                log.info("[preHandle] accessToken 값 추출 완료, token: {}", accessToken);
-                log.info("[preHandle] accessToken 값 유효성 체크 시작");
+                if (log.isDebugEnabled()) {
+                    log.debug("[preHandle] accessToken 값 유효성 체크 시작. {} {}", request.getMethod(), request.getRequestURI());
+                }
 
                 if (accessToken != null && jwtUtil.validateToken(accessToken)) {
-                    log.info("[preHandle] accessToken 값 유효성 체크 완료");
+                    log.debug("[preHandle] accessToken 값 유효성 체크 완료");
                     response.addHeader("Authorization", accessToken);
                     return HandlerInterceptor.super.preHandle(request, response, handler);
                 } else {
-                    log.warn("[preHandle] AccessToken이 만료되었습니다.");
+                    log.debug("[preHandle] AccessToken이 만료되었습니다.");
                     throw new AccessTokenExpiredException("AccessToken이 만료되었습니다.");
                 }
             }
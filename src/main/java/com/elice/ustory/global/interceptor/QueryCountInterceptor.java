@@ -0,0 +1,67 @@
+package com.elice.ustory.global.interceptor;
+
+import com.elice.ustory.global.metrics.QueryCounter;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청 하나에서 실행된 SQL 문 개수를 기록하고, 기준을 넘으면 N+1 의심 요청으로 경고 로그를 남깁니다.
+ */
+@Slf4j
+@Component
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    private final MeterRegistry meterRegistry;
+    private final long warnThreshold;
+
+    public QueryCountInterceptor(MeterRegistry meterRegistry,
+                                 @Value("${query-count.warn-threshold:10}") long warnThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.warnThreshold = warnThreshold;
+    }
+
+    @Override
+    public boolean preHandle(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler) {
+        QueryCounter.start();
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(@NotNull HttpServletRequest request, @NotNull HttpServletResponse response,
+                                @NotNull Object handler, Exception ex) {
+        long count = QueryCounter.stop();
+        String uri = getUriPattern(request);
+
+        DistributionSummary.builder("ustory.http.query.count")
+                .description("요청당 실행된 SQL 문 개수")
+                .tag("method", request.getMethod())
+                .tag("uri", uri)
+                .register(meterRegistry)
+                .record(count);
+
+        if (count > warnThreshold) {
+            Counter.builder("ustory.http.query.exceeded")
+                    .description("SQL 문 개수가 기준을 넘은 요청 수")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("[QueryCount] {} {} 요청에서 SQL 문이 {}번 실행됨 (기준: {})", request.getMethod(), uri, count, warnThreshold);
+        }
+    }
+
+    private String getUriPattern(HttpServletRequest request) {
+        // 지표의 태그 수가 늘어나지 않도록 실제 경로 대신 매핑된 패턴을 사용한다
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
@@ -0,0 +1,34 @@
+package com.elice.ustory.global.interceptor;
+
+import com.elice.ustory.global.ratelimit.RateLimit;
+import com.elice.ustory.global.ratelimit.RateLimiter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+import org.springframework.http.HttpMethod;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+@RequiredArgsConstructor
+@Component
+public class RateLimitInterceptor implements HandlerInterceptor {
+    private final RateLimiter rateLimiter;
+
+    public boolean preHandle(HttpServletRequest request, @NotNull HttpServletResponse response, @NotNull Object handler) {
+        if (HttpMethod.OPTIONS.matches(request.getMethod())) {
+            return true;
+        }
+
+        if (handler instanceof HandlerMethod handlerMethod) {
+            RateLimit rateLimit = handlerMethod.getMethodAnnotation(RateLimit.class);
+            if (rateLimit != null) {
+                // 프록시 뒤의 실제 클라이언트 IP는 server.forward-headers-strategy 설정으로 컨테이너가 결정한다
+                rateLimiter.consume(rateLimit.name(), "ip:" + request.getRemoteAddr(),
+                        rateLimit.capacity(), rateLimit.periodSeconds());
+            }
+        }
+        return true;
+    }
+}
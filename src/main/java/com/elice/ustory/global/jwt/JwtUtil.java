@@ -8,6 +8,7 @@ import com.elice.ustory.global.redis.kakao.KakaoTokenService;
 import com.elice.ustory.global.redis.refresh.RefreshToken;
 import com.elice.ustory.global.redis.refresh.RefreshTokenService;
 import io.jsonwebtoken.*;
+import io.micrometer.core.annotation.Timed;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
@@ -32,10 +33,8 @@ public class JwtUtil {
                 .orElseThrow((() -> new InvalidTokenException("토큰이 없거나 형식에 맞지 않습니다.")));
         Users loginUser = userService.findById(Long.valueOf(refreshToken.getId()));
 
-        log.info("redis안의 Refresh Token: {}", refreshToken.getRefreshToken());
-
         if (validateToken(refreshToken.getRefreshToken())) {
-            log.info("[refreshToken] 기존 RefreshToken으로 AccessToken 재발급 && 새 RefreshToken 발급 시작");
+            log.debug("[refreshToken] 기존 RefreshToken으로 AccessToken 재발급 && 새 RefreshToken 발급 시작");
             String newAccessToken = jwtTokenProvider.createAccessToken(Long.valueOf(refreshToken.getId()));
             String newRefreshToken = jwtTokenProvider.createRefreshToken();
             int remainingTTL = (int) getRemainingTTL(refreshToken.getRefreshToken());
@@ -48,8 +47,8 @@ public class JwtUtil {
 
                 kakaoTokenService.saveKakaoTokenInfo(loginUser.getId(), kakaoToken.getKakaoToken(), newAccessToken);
             }
-            log.info("[refreshToken] AccessToken이 재발급 되었습니다: {}", newAccessToken);
-            log.info("[refreshToken] RefreshToken이 재발급 되었습니다: {}", newRefreshToken);
+            // 토큰 값은 로그에 남기지 않는다
+            log.info("[refreshToken] AccessToken, RefreshToken이 재발급 되었습니다. userId: {}", loginUser.getId());
 
             response.addHeader("Authorization", newAccessToken);
             return true;
@@ -62,7 +61,6 @@ public class JwtUtil {
     public String getTokenFromRequest(HttpServletRequest request){
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
-            log.info("이거 베어러 토큰임: {}", bearerToken);
             return bearerToken.substring("Bearer ".length());
         }else {
             throw new InvalidTokenException("토큰 형식이 잘못되었습니다.");
@@ -70,23 +68,24 @@ public class JwtUtil {
     }
 
     public Long getUserPk(String token) {
-        log.info("[getUserPk] 토큰 기반 회원 구별 정보 추출");
+        log.debug("[getUserPk] 토큰 기반 회원 구별 정보 추출");
         return Long.parseLong(Jwts.parserBuilder().setSigningKey(jwtTokenProvider.getSecretKey()).build()
                 .parseClaimsJws(token).getBody().get("userId").toString());
     }
 
+    @Timed(value = "ustory.jwt.validate", description = "JWT 검증")
     public boolean validateToken(String jwtToken) {
-        log.info("[validateToken] 토큰 유효 체크 시작 ");
+        log.debug("[validateToken] 토큰 유효 체크 시작");
         try {
             Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(jwtTokenProvider.getSecretKey()).build()
                     .parseClaimsJws(jwtToken);
 
             return !claims.getBody().getExpiration().before(new Date(System.currentTimeMillis()));
         } catch (ExpiredJwtException e) {
-            log.info("[validateToken] 토큰 유효 시간 만료");
+            log.debug("[validateToken] 토큰 유효 시간 만료");
             return false;
         } catch (SignatureException e){
-            log.info("[validateToken] 올바르지 않은 토큰 형식");
+            log.debug("[validateToken] 올바르지 않은 토큰 형식");
             return false;
         }
     }
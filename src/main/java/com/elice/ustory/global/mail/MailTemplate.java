@@ -0,0 +1,15 @@
+package com.elice.ustory.global.mail;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum MailTemplate {
+
+    SIGNUP("mail-templates/signup.html", "UStory 회원가입 인증코드입니다."),
+    CHANGE_PASSWORD("mail-templates/change-password.html", "UStory 비밀번호 변경을 위한 인증코드입니다.");
+
+    private final String path;
+    private final String title;
+}
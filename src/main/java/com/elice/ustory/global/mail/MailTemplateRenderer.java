@@ -0,0 +1,120 @@
+package com.elice.ustory.global.mail;
+
+import jakarta.annotation.PostConstruct;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 메일 본문 템플릿을 애플리케이션 시작 시 한 번만 읽어 고정 문자열과 {{변수}} 조각으로 나눠 둡니다.
+ * 렌더링은 미리 계산한 크기의 StringBuilder에 조각을 이어 붙이기만 하므로 발송마다 템플릿을 다시 파싱하지 않습니다.
+ */
+@Component
+public class MailTemplateRenderer {
+
+    private static final String PLACEHOLDER_START = "{{";
+    private static final String PLACEHOLDER_END = "}}";
+    // 인증 코드 등 치환 값의 대략적인 길이
+    private static final int EXPECTED_VALUE_LENGTH = 16;
+
+    private final Map<MailTemplate, CompiledTemplate> templates = new EnumMap<>(MailTemplate.class);
+
+    @PostConstruct
+    private void init() {
+        for (MailTemplate template : MailTemplate.values()) {
+            templates.put(template, compile(load(template.getPath())));
+        }
+    }
+
+    /**
+     * 템플릿의 {{변수}}를 values의 값으로 치환한 본문을 반환합니다.
+     * 값은 HTML 이스케이프되며, values에 없는 변수는 빈 문자열로 치환됩니다.
+     */
+    public String render(MailTemplate template, Map<String, String> values) {
+        return templates.get(template).render(values);
+    }
+
+    private String load(String path) {
+        try (InputStream inputStream = new ClassPathResource(path).getInputStream()) {
+            return new String(inputStream.readAllBytes(), StandardCharsets.UTF_8).strip();
+        } catch (IOException e) {
+            throw new UncheckedIOException("메일 템플릿을 불러올 수 없습니다: " + path, e);
+        }
+    }
+
+    private CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> variables = new ArrayList<>();
+
+        int position = 0;
+        while (true) {
+            int start = source.indexOf(PLACEHOLDER_START, position);
+            int end = start < 0 ? -1 : source.indexOf(PLACEHOLDER_END, start + PLACEHOLDER_START.length());
+            if (end < 0) {
+                literals.add(source.substring(position));
+                break;
+            }
+            literals.add(source.substring(position, start));
+            variables.add(source.substring(start + PLACEHOLDER_START.length(), end).strip());
+            position = end + PLACEHOLDER_END.length();
+        }
+
+        return new CompiledTemplate(literals.toArray(new String[0]), variables.toArray(new String[0]));
+    }
+
+    /**
+     * literals[0] + values[variables[0]] + literals[1] + ... + literals[n] 형태의 템플릿
+     */
+    private static final class CompiledTemplate {
+
+        private final String[] literals;
+        private final String[] variables;
+        private final int initialCapacity;
+
+        private CompiledTemplate(String[] literals, String[] variables) {
+            this.literals = literals;
+            this.variables = variables;
+
+            int literalLength = 0;
+            for (String literal : literals) {
+                literalLength += literal.length();
+            }
+            this.initialCapacity = literalLength + variables.length * EXPECTED_VALUE_LENGTH;
+        }
+
+        private String render(Map<String, String> values) {
+            StringBuilder builder = new StringBuilder(initialCapacity);
+            for (int i = 0; i < variables.length; i++) {
+                builder.append(literals[i]);
+                appendEscaped(builder, values.get(variables[i]));
+            }
+            builder.append(literals[variables.length]);
+            return builder.toString();
+        }
+
+        private static void appendEscaped(StringBuilder builder, String value) {
+            if (value == null) {
+                return;
+            }
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '<' -> builder.append("&lt;");
+                    case '>' -> builder.append("&gt;");
+                    case '&' -> builder.append("&amp;");
+                    case '"' -> builder.append("&quot;");
+                    case '\'' -> builder.append("&#39;");
+                    default -> builder.append(c);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.elice.ustory.global.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate가 SQL 문을 준비할 때마다 {@link QueryCounter}의 개수를 늘립니다. SQL은 변경하지 않습니다.
+ */
+public class QueryCountInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryCounter.increment();
+        return sql;
+    }
+}
@@ -0,0 +1,38 @@
+package com.elice.ustory.global.metrics;
+
+/**
+ * 현재 스레드에서 실행된 SQL 문 개수를 셉니다.
+ * {@link #start()}를 호출한 스레드에서만 집계되므로, 요청 단위나 테스트의 특정 구간처럼 원하는 범위를 감싸서 사용합니다.
+ */
+public class QueryCounter {
+
+    private static final ThreadLocal<long[]> COUNTER = new ThreadLocal<>();
+
+    private QueryCounter() {
+    }
+
+    public static void start() {
+        COUNTER.set(new long[1]);
+    }
+
+    /**
+     * 집계를 종료하고 지금까지 실행된 SQL 문 개수를 반환합니다.
+     */
+    public static long stop() {
+        long count = current();
+        COUNTER.remove();
+        return count;
+    }
+
+    public static long current() {
+        long[] counter = COUNTER.get();
+        return counter == null ? 0 : counter[0];
+    }
+
+    static void increment() {
+        long[] counter = COUNTER.get();
+        if (counter != null) {
+            counter[0]++;
+        }
+    }
+}
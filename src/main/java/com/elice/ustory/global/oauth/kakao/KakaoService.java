@@ -79,13 +79,13 @@ public class KakaoService {
                 .refreshToken(refreshToken)
                 .build();
 
-        log.info("[getLogInResult] LogInResponse 객체에 값 주입");
+        log.debug("[getLogInResult] LogInResponse 객체에 값 주입");
         response.addHeader("Authorization", accessToken);
 
         refreshTokenService.saveTokenInfo(loginUser.getId(), refreshToken, accessToken, 60 * 60 * 24 * 7);
         kakaoTokenService.saveKakaoTokenInfo(loginUser.getId(), kakaoToken, accessToken);
 
-        log.info("[logIn] 정상적으로 로그인되었습니다. id : {}, toke n : {}", loginUser.getId(), loginResponse.getAccessToken());
+        log.info("[logIn] 정상적으로 로그인되었습니다. id : {}", loginUser.getId());
         return loginResponse;
     }
 
@@ -0,0 +1,21 @@
+package com.elice.ustory.global.ratelimit;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 컨트롤러 메서드에 클라이언트 IP 기준 요청 제한을 적용합니다.
+ * capacity, periodSeconds는 rate-limit.{name}.capacity / rate-limit.{name}.period-seconds 설정으로 덮어쓸 수 있습니다.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface RateLimit {
+
+    String name();
+
+    int capacity() default 10;
+
+    int periodSeconds() default 60;
+}
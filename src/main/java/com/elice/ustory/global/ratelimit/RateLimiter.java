@@ -0,0 +1,83 @@
+package com.elice.ustory.global.ratelimit;
+
+import com.elice.ustory.global.exception.model.TooManyRequestsException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.env.Environment;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Redis에 저장한 토큰 버킷으로 요청 수를 제한합니다.
+ * 버킷은 periodSeconds 동안 capacity개의 토큰이 일정하게 채워지며, 조회/충전/차감은 Lua 스크립트 하나로 원자적으로 처리합니다.
+ * Redis를 사용할 수 없는 경우에는 서비스가 멈추지 않도록 요청을 허용합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RateLimiter {
+
+    private static final String RATE_LIMIT_KEY_PREFIX = "rateLimit:";
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    // KEYS[1] = 버킷 키, ARGV = capacity, period(ms), now(ms)
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local capacity = tonumber(ARGV[1]) " +
+            "local period = tonumber(ARGV[2]) " +
+            "local now = tonumber(ARGV[3]) " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) " +
+            "local ts = tonumber(bucket[2]) " +
+            "if tokens == nil or ts == nil then tokens = capacity ts = now end " +
+            "if now > ts then " +
+            "tokens = math.min(capacity, tokens + (now - ts) * capacity / period) " +
+            "ts = now " +
+            "end " +
+            "local allowed = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 allowed = 1 end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', tostring(ts)) " +
+            "redis.call('PEXPIRE', KEYS[1], period) " +
+            "return allowed",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final Environment environment;
+
+    /**
+     * name 정책의 subject 버킷에서 토큰을 하나 사용합니다.
+     *
+     * @throws TooManyRequestsException 남은 토큰이 없는 경우
+     */
+    public void consume(String name, String subject, int defaultCapacity, int defaultPeriodSeconds) {
+        int capacity = environment.getProperty("rate-limit." + name + ".capacity", Integer.class, defaultCapacity);
+        int periodSeconds = environment.getProperty("rate-limit." + name + ".period-seconds", Integer.class, defaultPeriodSeconds);
+
+        if (!tryAcquire(RATE_LIMIT_KEY_PREFIX + name + ":" + subject, capacity, periodSeconds * 1000L)) {
+            throw new TooManyRequestsException(TOO_MANY_REQUESTS_MESSAGE);
+        }
+    }
+
+    /**
+     * 대소문자나 앞뒤 공백만 다른 이메일이 같은 버킷을 사용하도록 정규화한 subject를 반환합니다.
+     */
+    public static String emailSubject(String email) {
+        return "email:" + (email == null ? "" : email.trim().toLowerCase(Locale.ROOT));
+    }
+
+    private boolean tryAcquire(String key, int capacity, long periodMillis) {
+        try {
+            Long allowed = stringRedisTemplate.execute(TOKEN_BUCKET_SCRIPT, List.of(key),
+                    String.valueOf(capacity), String.valueOf(periodMillis), String.valueOf(System.currentTimeMillis()));
+            return allowed == null || allowed == 1L;
+        } catch (DataAccessException e) {
+            log.warn("[tryAcquire] 요청 제한 확인 실패, 요청을 허용합니다. key: {}", key, e);
+            return true;
+        }
+    }
+}
@@ -0,0 +1,49 @@
+package com.elice.ustory.global.redis.lock;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 여러 인스턴스 중 하나만 작업을 수행하도록 Redis 키로 잡는 락입니다.
+ * 락마다 고유한 토큰을 값으로 저장하고, 해제할 때는 토큰이 같은 경우에만 삭제합니다.
+ * 작업이 TTL보다 오래 걸려 다른 인스턴스가 락을 새로 잡았더라도 그 락을 지우지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+    // GET과 DEL 사이에 다른 인스턴스가 끼어들지 않도록 비교와 삭제를 한 번에 실행한다
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then return redis.call('DEL', KEYS[1]) end return 0",
+            Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    /**
+     * 락을 잡습니다.
+     *
+     * @return 해제할 때 넘길 토큰, 이미 다른 곳에서 잡은 락이라면 null
+     */
+    public String tryLock(String key, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean locked = stringRedisTemplate.opsForValue().setIfAbsent(key, token, ttl);
+        return Boolean.TRUE.equals(locked) ? token : null;
+    }
+
+    /**
+     * 토큰이 일치할 때만 락을 해제합니다.
+     *
+     * @return 해제했다면 true, 이미 만료되었거나 다른 곳에서 잡은 락이라면 false
+     */
+    public boolean unlock(String key, String token) {
+        Long deleted = stringRedisTemplate.execute(UNLOCK_SCRIPT, List.of(key), token);
+        return deleted != null && deleted > 0;
+    }
+}
@@ -26,7 +26,7 @@ public class JwtAuthorizationArgumentResolver implements HandlerMethodArgumentRe
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory){
 
-        log.info("JwtAuthorizationArgumentResolver 동작!!");
+        log.debug("JwtAuthorizationArgumentResolver 동작");
 
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
 
@@ -0,0 +1,103 @@
+package com.elice.ustory.global.s3;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Iterator;
+
+/**
+ * 이미지를 지정한 너비로 줄여 JPEG로 인코딩합니다.
+ * JDK ImageIO만 사용하며, 원본보다 크게 늘리지는 않습니다.
+ * 압축률이 높은 큰 해상도 이미지를 그대로 디코딩하면 힙을 크게 차지하므로, 디코딩 전에 헤더의 해상도를 확인하고
+ * 필요한 너비에 맞춰 픽셀을 건너뛰며(subsampling) 읽습니다.
+ */
+public final class ImageResizer {
+
+    private static final float JPEG_QUALITY = 0.8f;
+    // 헤더 기준 원본 해상도 상한 (약 1억 픽셀), 이보다 크면 디코딩하지 않는다
+    private static final long MAX_SOURCE_PIXELS = 100_000_000L;
+
+    private ImageResizer() {
+    }
+
+    /**
+     * 이미지를 디코딩합니다.
+     * 원본 너비가 maxWidth의 두 배 이상이면 너비가 maxWidth 이상으로 남는 만큼만 픽셀을 건너뛰며 읽으므로,
+     * 디코딩된 이미지의 크기는 원본이 아니라 maxWidth에 비례합니다.
+     *
+     * @param maxWidth 이 이미지로 만들 가장 큰 리사이즈 너비
+     * @throws IOException 지원하지 않는 형식이거나 해상도가 상한을 넘는 경우
+     */
+    public static BufferedImage read(byte[] content, int maxWidth) throws IOException {
+        try (ImageInputStream inputStream = ImageIO.createImageInputStream(new ByteArrayInputStream(content))) {
+            Iterator<ImageReader> readers = inputStream == null ? null : ImageIO.getImageReaders(inputStream);
+            if (readers == null || !readers.hasNext()) {
+                throw new IOException("지원하지 않는 이미지 형식입니다.");
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(inputStream, true, true);
+
+                // 헤더만 읽어 해상도를 확인한다
+                int width = reader.getWidth(0);
+                int height = reader.getHeight(0);
+                if ((long) width * height > MAX_SOURCE_PIXELS) {
+                    throw new IOException(String.format("이미지 해상도가 너무 큽니다. (%dx%d)", width, height));
+                }
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                int subsampling = Math.max(1, width / maxWidth);
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        }
+    }
+
+    public static byte[] resizeToJpeg(BufferedImage source, int maxWidth) throws IOException {
+        int width = Math.min(maxWidth, source.getWidth());
+        int height = Math.max(1, (int) Math.round((double) source.getHeight() * width / source.getWidth()));
+
+        // JPEG는 투명도를 지원하지 않으므로 흰 배경 위에 그린다
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ImageWriteParam param = writer.getDefaultWriteParam();
+        param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+        param.setCompressionQuality(JPEG_QUALITY);
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(resized, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+}
@@ -0,0 +1,38 @@
+package com.elice.ustory.global.s3;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 원본 이미지로부터 생성하는 리사이즈 이미지 종류
+ * 변형 이미지는 원본과 같은 버킷의 variants/{name}/{원본 key}.jpg 에 저장됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ImageVariant {
+
+    LIST("list", 400),
+    MAP("map", 120),
+    DETAIL("detail", 1080);
+
+    private static final String VARIANT_PATH_FORMAT = "variants/%s/%s.jpg";
+
+    private final String name;
+    private final int width;
+
+    /** 원본 object key에 대응하는 변형 이미지의 key */
+    public String keyOf(String originalKey) {
+        int extensionIndex = originalKey.lastIndexOf('.');
+        String baseKey = extensionIndex < 0 ? originalKey : originalKey.substring(0, extensionIndex);
+        return String.format(VARIANT_PATH_FORMAT, name, baseKey);
+    }
+
+    /** 원본 URL에 대응하는 변형 이미지의 URL, URL 형식이 아니라면 원본을 그대로 반환 */
+    public String urlOf(String originalUrl) {
+        int hostEnd = originalUrl.indexOf('/', "https://".length());
+        if (!originalUrl.startsWith("https://") || hostEnd < 0) {
+            return originalUrl;
+        }
+        return originalUrl.substring(0, hostEnd + 1) + keyOf(originalUrl.substring(hostEnd + 1));
+    }
+}
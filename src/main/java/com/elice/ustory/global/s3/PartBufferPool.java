@@ -0,0 +1,60 @@
+package com.elice.ustory.global.s3;
+
+import com.elice.ustory.global.exception.model.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 서버 경유 multipart upload에서 part를 읽어 둘 고정 크기 버퍼 풀
+ * 시작 시 정해진 개수만 만들어 재사용하므로, 동시 업로드가 늘어도 part 버퍼가 차지하는 힙은 개수 x part 크기를 넘지 않습니다.
+ * 버퍼를 기다리다 시간이 지나면 업로드를 거절합니다.
+ */
+@Component
+public class PartBufferPool {
+
+    // S3 multipart upload의 최소 part 크기 (마지막 part 제외)
+    public static final int PART_SIZE = 5 * 1024 * 1024;
+    private static final String EXHAUSTED_MESSAGE = "이미지 업로드 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    private final BlockingQueue<byte[]> buffers;
+    private final long waitMillis;
+
+    public PartBufferPool(@Value("${cloud.s3.upload.part-buffer-count:4}") int bufferCount,
+                          @Value("${cloud.s3.upload.part-buffer-wait-millis:1000}") long waitMillis) {
+        this.buffers = new ArrayBlockingQueue<>(bufferCount);
+        for (int i = 0; i < bufferCount; i++) {
+            buffers.add(new byte[PART_SIZE]);
+        }
+        this.waitMillis = waitMillis;
+    }
+
+    /**
+     * 버퍼를 빌립니다. 사용이 끝나면 반드시 {@link #release(byte[])}로 돌려줘야 합니다.
+     *
+     * @throws TooManyRequestsException 대기 시간 안에 남는 버퍼가 없는 경우
+     */
+    public byte[] acquire() {
+        try {
+            byte[] buffer = buffers.poll(waitMillis, TimeUnit.MILLISECONDS);
+            if (buffer == null) {
+                throw new TooManyRequestsException(EXHAUSTED_MESSAGE);
+            }
+            return buffer;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TooManyRequestsException(EXHAUSTED_MESSAGE);
+        }
+    }
+
+    public void release(byte[] buffer) {
+        buffers.offer(buffer);
+    }
+
+    public int available() {
+        return buffers.size();
+    }
+}
@@ -4,14 +4,20 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import jakarta.servlet.MultipartConfigElement;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.MultipartConfigFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
+import org.springframework.util.unit.DataSize;
 
 @Configuration
 public class S3Config {
 
+    // 파일 외의 multipart 경계, 헤더 등을 위한 여유분
+    private static final long MULTIPART_REQUEST_OVERHEAD_BYTES = 1024 * 1024;
+
     @Value("${cloud.aws.credentials.access-key}")
     private String accessKey;
 
@@ -21,6 +27,9 @@ public class S3Config {
     @Value("${cloud.aws.region}")
     private String region;
 
+    @Value("${cloud.s3.upload.max-size-bytes:20971520}")
+    private long maxUploadSize;
+
     @Bean
     @Primary
     public BasicAWSCredentials awsCredentialsProvider() {
@@ -35,4 +44,16 @@ public class S3Config {
                 .withCredentials(new AWSStaticCredentialsProvider(awsCredentialsProvider()))
                 .build();
     }
+
+    /**
+     * 서버 경유 이미지 업로드(/s3/image)의 크기 제한
+     * 기본값(1MB) 대신 S3Service와 같은 설정값을 사용하며, 업로드 본문은 메모리가 아닌 임시 파일에 저장된다.
+     */
+    @Bean
+    public MultipartConfigElement multipartConfigElement() {
+        MultipartConfigFactory factory = new MultipartConfigFactory();
+        factory.setMaxFileSize(DataSize.ofBytes(maxUploadSize));
+        factory.setMaxRequestSize(DataSize.ofBytes(maxUploadSize + MULTIPART_REQUEST_OVERHEAD_BYTES));
+        return factory.createMultipartConfig();
+    }
 }
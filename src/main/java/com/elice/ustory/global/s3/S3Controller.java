@@ -1,18 +1,35 @@
 package com.elice.ustory.global.s3;
 
+import com.elice.ustory.global.exception.ErrorCode;
 import com.elice.ustory.global.exception.dto.ErrorResponse;
+import com.elice.ustory.global.exception.model.ValidationException;
+import com.elice.ustory.global.jwt.JwtAuthorization;
+import com.elice.ustory.global.s3.dto.PresignedUrlsRequest;
+import com.elice.ustory.global.s3.dto.PresignedUrlsResponse;
+import com.elice.ustory.global.s3.dto.UploadImageResponse;
 import com.elice.ustory.global.s3.dto.presignedUrlResponse;
+import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
 
 @Tag(name = "S3 Storage API")
 @RestController
@@ -34,4 +51,39 @@ public class S3Controller {
         return ResponseEntity.ok().body(presignedUrlResponse);
     }
 
+    @Operation(summary = "Get PreSigned URLs API", description = "여러 이미지의 PreSigned URL을 한 번에 발급한다. <br>최대 20개까지 요청할 수 있으며, 결과는 요청한 파일명 순서를 따른다.")
+    @PostMapping("/pre-signed-url/images")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Ok", content = @Content(mediaType = "application/json", schema = @Schema(implementation = PresignedUrlsResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<PresignedUrlsResponse> getPresignedUrls(@Valid @RequestBody PresignedUrlsRequest presignedUrlsRequest) {
+        PresignedUrlsResponse presignedUrlsResponse = new PresignedUrlsResponse(s3Service.getPresignedUrls("images", presignedUrlsRequest.getFileNames()));
+        return ResponseEntity.ok().body(presignedUrlsResponse);
+    }
+
+    @Operation(summary = "Upload Image API", description = "PreSigned URL로 직접 업로드할 수 없는 경우 서버를 거쳐 이미지를 업로드한다. <br>jpg, jpeg, png, gif을 지원하며 20MB 이하만 업로드할 수 있다.")
+    @PostMapping(value = "/image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "Created", content = @Content(mediaType = "application/json", schema = @Schema(implementation = UploadImageResponse.class))),
+            @ApiResponse(responseCode = "400", description = "Bad Request", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "401", description = "Unauthorized", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "413", description = "Payload Too Large", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "429", description = "Too Many Requests", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class))),
+            @ApiResponse(responseCode = "500", description = "Internal Server Error", content = @Content(mediaType = "application/json", schema = @Schema(implementation = ErrorResponse.class)))
+    })
+    public ResponseEntity<UploadImageResponse> uploadImage(@RequestPart(name = "file") MultipartFile file,
+                                                           @JwtAuthorization Long userId) throws IOException {
+        String fileName = file.getOriginalFilename();
+        if (fileName == null || fileName.isBlank()) {
+            throw new ValidationException("파일명이 누락되었습니다.", ErrorCode.MISSING_REQUIRED_PARAMETER);
+        }
+
+        try (InputStream inputStream = file.getInputStream()) {
+            String imageUrl = s3Service.uploadImage("images", fileName, inputStream, file.getSize());
+            return ResponseEntity.status(HttpStatus.CREATED).body(new UploadImageResponse(imageUrl));
+        }
+    }
+
 }
@@ -3,34 +3,74 @@ package com.elice.ustory.global.s3;
 import com.amazonaws.HttpMethod;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.Headers;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.elice.ustory.global.exception.ErrorCode;
+import com.elice.ustory.global.exception.model.InternalServerException;
+import com.elice.ustory.global.exception.model.PayloadTooLargeException;
 import com.elice.ustory.global.exception.model.ValidationException;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
 
 @Service
-@RequiredArgsConstructor
 public class S3Service {
 
     private static final List<String> ALLOWED_IMAGE_EXTENSIONS = Arrays.asList("jpg", "jpeg", "png", "gif");
+    private static final String MISSING_FILE_NAME_EXCEPTION_MESSAGE = "파일명이 누락되었습니다.";
     private static final String MISSING_IMAGE_EXTENSION_EXCEPTION_MESSAGE = "확장자가 누락되었습니다.";
     private static final String INVALID_IMAGE_EXTENSION_EXCEPTION_MESSAGE = "jpg, jpeg, png, gif 확장자만을 지원합니다.";
+    private static final String NOT_UPLOADED_IMAGE_EXCEPTION_MESSAGE = "%s: 업로드가 완료되지 않은 이미지입니다.";
+    private static final String UPLOAD_CHECK_FAILED_EXCEPTION_MESSAGE = "이미지 업로드 여부를 확인하지 못했습니다.";
+    private static final String TOO_LARGE_IMAGE_EXCEPTION_MESSAGE = "이미지는 %dMB 이하만 업로드할 수 있습니다.";
     private static final String IMAGE_URL_PATH_FORMAT = "%s/%s";
+    private static final String INCOMPLETE_UPLOAD_EXCEPTION_MESSAGE = "업로드된 이미지의 크기가 요청과 다릅니다.";
+    private static final int UPLOAD_READ_LIMIT = 128 * 1024;
+    private static final int UPLOAD_PART_SIZE = PartBufferPool.PART_SIZE;
 
     @Value("${cloud.s3.bucket}")
     private String bucket;
 
+    @Value("${cloud.s3.upload.max-size-bytes:20971520}")
+    private long maxUploadSize;
+
     private final AmazonS3 amazonS3;
+    private final ThreadPoolTaskExecutor s3CheckExecutor;
+    private final PartBufferPool partBufferPool;
+
+    public S3Service(AmazonS3 amazonS3, @Qualifier("s3CheckExecutor") ThreadPoolTaskExecutor s3CheckExecutor,
+                     PartBufferPool partBufferPool) {
+        this.amazonS3 = amazonS3;
+        this.s3CheckExecutor = s3CheckExecutor;
+        this.partBufferPool = partBufferPool;
+    }
 
+    @Timed(value = "ustory.s3.presign", description = "PreSigned URL 발급")
     public String getPresignedUrl(String prefix, String fileName) {
 
         validateFileName(fileName);
@@ -45,7 +85,216 @@ public class S3Service {
         return url.toString();
     }
 
+    /**
+     * 여러 파일의 PreSigned URL을 한 번에 발급합니다.
+     * 모든 파일명을 먼저 검증한 뒤, 서명은 로컬 연산이므로 병렬로 생성하며 결과는 요청 순서를 유지합니다.
+     */
+    public List<String> getPresignedUrls(String prefix, List<String> fileNames) {
+
+        for (String fileName : fileNames) {
+            validateFileName(fileName);
+        }
+
+        Date expiration = getPresignedUrlExpiration();
+
+        return fileNames.parallelStream()
+                .map(fileName -> prefix.isEmpty() ? fileName : createPath(prefix, fileName))
+                .map(key -> amazonS3.generatePresignedUrl(getGeneratePresignedUrlRequest(bucket, key, expiration)).toString())
+                .toList();
+    }
+
+    /**
+     * 이 서비스의 버킷에 저장된 객체 URL이라면 object key를 반환하고, 아니라면 null을 반환합니다.
+     */
+    public String getObjectKey(String url) {
+        String bucketHost = "https://" + bucket + ".s3.";
+        if (url == null || !url.startsWith(bucketHost)) {
+            return null;
+        }
+
+        int hostEnd = url.indexOf('/', bucketHost.length());
+        return hostEnd < 0 ? null : url.substring(hostEnd + 1);
+    }
+
+    public byte[] getObjectBytes(String key) throws IOException {
+        try (S3Object s3Object = amazonS3.getObject(bucket, key);
+             InputStream inputStream = s3Object.getObjectContent()) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    /** 공개 읽기 권한으로 객체를 업로드합니다. */
+    public void putObject(String key, byte[] content, String contentType) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(content.length);
+        metadata.setContentType(contentType);
+
+        PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, new ByteArrayInputStream(content), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead);
+        amazonS3.putObject(putObjectRequest);
+    }
+
+    /**
+     * 이 버킷을 가리키는 URL들의 객체가 실제로 업로드되었는지 HEAD 요청으로 확인합니다.
+     * 요청은 s3CheckExecutor에서 동시에 보내며, 다른 호스트의 URL은 확인하지 않습니다.
+     * DB 커넥션을 잡은 채로 기다리지 않도록 트랜잭션 밖에서 호출합니다.
+     */
+    public void validateUploaded(List<String> urls) {
+        List<String> targetUrls = new ArrayList<>();
+        List<Future<Boolean>> results = new ArrayList<>();
+        for (String url : urls) {
+            String key = getObjectKey(url);
+            if (key != null) {
+                targetUrls.add(url);
+                results.add(s3CheckExecutor.submit(() -> amazonS3.doesObjectExist(bucket, key)));
+            }
+        }
+
+        try {
+            for (int i = 0; i < results.size(); i++) {
+                if (!results.get(i).get()) {
+                    throw new ValidationException(String.format(NOT_UPLOADED_IMAGE_EXCEPTION_MESSAGE, targetUrls.get(i)), ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InternalServerException(UPLOAD_CHECK_FAILED_EXCEPTION_MESSAGE);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new InternalServerException(UPLOAD_CHECK_FAILED_EXCEPTION_MESSAGE);
+        } finally {
+            // 하나라도 실패하면 남은 확인은 기다리지 않는다
+            results.forEach(result -> result.cancel(true));
+        }
+    }
+
+    /** prefix 아래의 객체를 maxKeys개씩 나누어 조회합니다. */
+    public ListObjectsV2Result listObjects(String prefix, String continuationToken, int maxKeys) {
+        ListObjectsV2Request listObjectsRequest = new ListObjectsV2Request()
+                .withBucketName(bucket)
+                .withPrefix(prefix)
+                .withMaxKeys(maxKeys)
+                .withContinuationToken(continuationToken);
+
+        return amazonS3.listObjectsV2(listObjectsRequest);
+    }
+
+    /** 한 번의 요청으로 여러 객체를 삭제합니다. (최대 1000개) */
+    public void deleteObjects(List<String> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        DeleteObjectsRequest deleteObjectsRequest = new DeleteObjectsRequest(bucket)
+                .withKeys(keys.toArray(new String[0]))
+                .withQuiet(true);
+        amazonS3.deleteObjects(deleteObjectsRequest);
+    }
+
+    /** object key로 접근 가능한 URL 형식들, 클라이언트가 저장한 URL의 인코딩 여부와 관계없이 비교하기 위해 사용 */
+    public List<String> getObjectUrls(String key) {
+        String encodedUrl = amazonS3.getUrl(bucket, key).toString();
+        String rawUrl = encodedUrl.substring(0, encodedUrl.indexOf('/', "https://".length()) + 1) + key;
+
+        return encodedUrl.equals(rawUrl) ? List.of(encodedUrl) : List.of(encodedUrl, rawUrl);
+    }
+
+    /**
+     * 서버를 거쳐 이미지를 업로드합니다.
+     * part 크기 이하의 파일은 한 번에 올리고, 그보다 크면 고정 크기 part로 나누어 multipart upload 합니다.
+     * 스트림은 풀에서 빌린 part 크기 버퍼 하나로 읽으므로 파일 전체를 힙에 올리지 않으며,
+     * 풀의 버퍼가 모두 사용 중이면 TooManyRequestsException 으로 거절합니다.
+     *
+     * @return 업로드된 이미지 URL
+     */
+    public String uploadImage(String prefix, String fileName, InputStream inputStream, long size) throws IOException {
+
+        validateFileName(fileName);
+
+        if (size > maxUploadSize) {
+            throw new PayloadTooLargeException(String.format(TOO_LARGE_IMAGE_EXCEPTION_MESSAGE, maxUploadSize / (1024 * 1024)));
+        }
+
+        String key = prefix.isEmpty() ? fileName : createPath(prefix, fileName);
+
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(getContentType(fileName));
+
+        if (size <= UPLOAD_PART_SIZE) {
+            metadata.setContentLength(size);
+            PutObjectRequest putObjectRequest = new PutObjectRequest(bucket, key, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);
+            // 재전송에 대비해 SDK가 버퍼링하는 크기를 고정한다
+            putObjectRequest.getRequestClientOptions().setReadLimit(UPLOAD_READ_LIMIT);
+            amazonS3.putObject(putObjectRequest);
+        } else {
+            uploadInParts(key, inputStream, size, metadata);
+        }
+
+        return amazonS3.getUrl(bucket, key).toString();
+    }
+
+    private void uploadInParts(String key, InputStream inputStream, long size, ObjectMetadata metadata) throws IOException {
+        // 버퍼를 먼저 빌려 거절될 때 multipart upload를 시작하지 않게 한다
+        byte[] buffer = partBufferPool.acquire();
+        try {
+            uploadInParts(key, inputStream, size, metadata, buffer);
+        } finally {
+            partBufferPool.release(buffer);
+        }
+    }
+
+    private void uploadInParts(String key, InputStream inputStream, long size, ObjectMetadata metadata, byte[] buffer) throws IOException {
+        InitiateMultipartUploadRequest initiateRequest = new InitiateMultipartUploadRequest(bucket, key, metadata)
+                .withCannedACL(CannedAccessControlList.PublicRead);
+        String uploadId = amazonS3.initiateMultipartUpload(initiateRequest).getUploadId();
+
+        try {
+            List<PartETag> partETags = new ArrayList<>();
+            long uploaded = 0;
+
+            for (int partNumber = 1; uploaded < size; partNumber++) {
+                int length = inputStream.readNBytes(buffer, 0, (int) Math.min(UPLOAD_PART_SIZE, size - uploaded));
+                if (length == 0) {
+                    throw new ValidationException(INCOMPLETE_UPLOAD_EXCEPTION_MESSAGE, ErrorCode.VALIDATION_PARAMETER_EXCEPTION);
+                }
+
+                UploadPartRequest uploadPartRequest = new UploadPartRequest()
+                        .withBucketName(bucket)
+                        .withKey(key)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withInputStream(new ByteArrayInputStream(buffer, 0, length))
+                        .withPartSize(length);
+                partETags.add(amazonS3.uploadPart(uploadPartRequest).getPartETag());
+                uploaded += length;
+            }
+
+            amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(bucket, key, uploadId, partETags));
+        } catch (IOException | RuntimeException e) {
+            // 완료되지 않은 part가 버킷에 남아 과금되지 않도록 업로드를 취소한다
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(bucket, key, uploadId));
+            throw e;
+        }
+    }
+
+    private String getContentType(String fileName) {
+        String extension = fileName.substring(fileName.lastIndexOf(".") + 1).toLowerCase();
+        return switch (extension) {
+            case "jpg", "jpeg" -> "image/jpeg";
+            case "png" -> "image/png";
+            case "gif" -> "image/gif";
+            default -> "application/octet-stream";
+        };
+    }
+
     private void validateFileName(String fileName) {
+        if (fileName == null || fileName.isBlank()) {
+            throw new ValidationException(MISSING_FILE_NAME_EXCEPTION_MESSAGE, ErrorCode.MISSING_REQUIRED_PARAMETER);
+        }
+
         String extension = fileName.substring(fileName.lastIndexOf(".") + 1);
 
         if (extension.equals(fileName)) {
@@ -58,9 +307,13 @@ public class S3Service {
     }
 
     private GeneratePresignedUrlRequest getGeneratePresignedUrlRequest(String bucket, String fileName) {
+        return getGeneratePresignedUrlRequest(bucket, fileName, getPresignedUrlExpiration());
+    }
+
+    private GeneratePresignedUrlRequest getGeneratePresignedUrlRequest(String bucket, String fileName, Date expiration) {
         GeneratePresignedUrlRequest generatePresignedUrlRequest = new GeneratePresignedUrlRequest(bucket, fileName)
                 .withMethod(HttpMethod.PUT)
-                .withExpiration(getPresignedUrlExpiration());
+                .withExpiration(expiration);
 
         generatePresignedUrlRequest.addRequestParameter(
                 Headers.S3_CANNED_ACL,
@@ -0,0 +1,21 @@
+package com.elice.ustory.global.s3.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class PresignedUrlsRequest {
+    @NotEmpty(message = "파일명을 1개 이상 입력해주세요.")
+    @Size(max = 20, message = "한 번에 최대 20개의 파일명을 요청할 수 있습니다.")
+    @Schema(description = "확장자명을 포함한 파일명 목록 <br>jpg, jpeg, png, gif을 지원합니다.", example = "[\"paper1.png\", \"paper2.jpg\"]")
+    private List<@NotBlank(message = "파일명은 비어 있을 수 없습니다.") String> fileNames;
+}
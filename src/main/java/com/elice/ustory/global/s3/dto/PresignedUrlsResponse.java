@@ -0,0 +1,16 @@
+package com.elice.ustory.global.s3.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class PresignedUrlsResponse {
+    @Schema(description = "요청한 파일명 순서대로 발급된 PreSignedUrl 목록 <br> 각 URL에 PUT 메서드로 이미지를 첨부하여 요청해야한다.")
+    private List<String> presignedUrls;
+}
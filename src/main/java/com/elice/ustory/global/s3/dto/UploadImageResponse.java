@@ -0,0 +1,14 @@
+package com.elice.ustory.global.s3.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+public class UploadImageResponse {
+    @Schema(description = "업로드된 이미지 URL", example = "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/images/276ae3f4-a874-4cd8-a21d-ef665017686d-userProfile.png")
+    private String imageUrl;
+}
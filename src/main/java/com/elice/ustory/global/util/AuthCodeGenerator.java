@@ -0,0 +1,26 @@
+package com.elice.ustory.global.util;
+
+import java.security.SecureRandom;
+
+/**
+ * 이메일 인증 코드 생성기
+ * 숫자, 대문자, 소문자로 이루어진 6자리 문자열을 스트림이나 박싱 없이 char 버퍼에 바로 채워 만듭니다.
+ */
+public final class AuthCodeGenerator {
+
+    private static final char[] AUTH_CODE_ALPHABET = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final int AUTH_CODE_LENGTH = 6;
+    // SecureRandom은 스레드 안전하므로 요청마다 만들지 않고 공유한다
+    private static final SecureRandom SECURE_RANDOM = new SecureRandom();
+
+    private AuthCodeGenerator() {
+    }
+
+    public static String generate() {
+        char[] authCode = new char[AUTH_CODE_LENGTH];
+        for (int i = 0; i < AUTH_CODE_LENGTH; i++) {
+            authCode[i] = AUTH_CODE_ALPHABET[SECURE_RANDOM.nextInt(AUTH_CODE_ALPHABET.length)];
+        }
+        return new String(authCode);
+    }
+}
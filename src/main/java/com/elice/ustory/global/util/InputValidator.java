@@ -0,0 +1,65 @@
+package com.elice.ustory.global.util;
+
+/**
+ * 엔티티와 서비스에서 공통으로 사용하는 입력값 검사 메서드 모음입니다.
+ * 호출할 때마다 정규식을 컴파일하지 않도록 문자 단위로 검사합니다.
+ */
+public class InputValidator {
+
+    private static final String IMAGE_URL_PREFIX = "https://";
+    private static final String[] IMAGE_URL_SUFFIXES = {".jpg", ".jpeg", ".png", ".gif"};
+
+    private InputValidator() {
+    }
+
+    /**
+     * 한글 음절, 영문, 숫자, 공백, ASCII 특수문자로만 이루어진 문자열인지 확인합니다.
+     * 정규식 {@code ^[가-힣a-zA-Z0-9\s!@#$%^&*()_+\-=\[\]{};':"\\|,.<>/?~`]+$}와 같은 규칙입니다.
+     */
+    public static boolean isTitle(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            boolean allowed = (c >= '가' && c <= '힣')
+                    || (c >= '!' && c <= '~') // 영문, 숫자, ASCII 특수문자
+                    || c == ' ' || (c >= '\t' && c <= '\r'); // \s
+            if (!allowed) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * 비어 있지 않고 줄바꿈 문자를 포함하지 않는 한 줄 문자열인지 확인합니다. (정규식 {@code ^.+$})
+     */
+    public static boolean isSingleLine(String value) {
+        if (value == null || value.isEmpty()) {
+            return false;
+        }
+
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public static boolean hasImageUrlPrefix(String value) {
+        return value.startsWith(IMAGE_URL_PREFIX);
+    }
+
+    public static boolean hasImageExtension(String value) {
+        for (String suffix : IMAGE_URL_SUFFIXES) {
+            if (value.endsWith(suffix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,155 @@
+package com.elice.ustory.global.util;
+
+import java.util.Arrays;
+
+/**
+ * (출발 ID, 도착 ID) 간선 목록을 CSR(Compressed Sparse Row) 형태의 정렬된 long 배열로 보관합니다.
+ * 노드별 이웃 목록이 오름차순으로 정렬되어 있으므로 두 이웃 목록의 교집합을 병합(merge) 방식으로 계산할 수 있습니다.
+ */
+public final class SortedAdjacency {
+
+    private static final SortedAdjacency EMPTY = new SortedAdjacency(new long[0], new int[]{0}, new long[0]);
+
+    private final long[] nodes;
+    private final int[] offsets;
+    private final long[] targets;
+
+    private SortedAdjacency(long[] nodes, int[] offsets, long[] targets) {
+        this.nodes = nodes;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public static SortedAdjacency empty() {
+        return EMPTY;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public int nodeCount() {
+        return nodes.length;
+    }
+
+    public long nodeAt(int index) {
+        return nodes[index];
+    }
+
+    /**
+     * @return 노드의 인덱스, 존재하지 않으면 음수
+     */
+    public int indexOf(long node) {
+        return Arrays.binarySearch(nodes, node);
+    }
+
+    public int start(int index) {
+        return offsets[index];
+    }
+
+    public int end(int index) {
+        return offsets[index + 1];
+    }
+
+    public long targetAt(int position) {
+        return targets[position];
+    }
+
+    public int degree(long node) {
+        int index = indexOf(node);
+        return index < 0 ? 0 : end(index) - start(index);
+    }
+
+    /**
+     * 정렬된 이웃 목록에 해당 도착 ID가 존재하는지 이분 탐색으로 확인합니다.
+     */
+    public boolean contains(long node, long target) {
+        int index = indexOf(node);
+        return index >= 0 && Arrays.binarySearch(targets, start(index), end(index), target) >= 0;
+    }
+
+    /**
+     * 두 노드의 공통 이웃 수를 병합 방식으로 계산합니다.
+     */
+    public int intersectionSize(long a, long b) {
+        int aIndex = indexOf(a);
+        int bIndex = indexOf(b);
+        if (aIndex < 0 || bIndex < 0) {
+            return 0;
+        }
+
+        int i = start(aIndex);
+        int aEnd = end(aIndex);
+        int j = start(bIndex);
+        int bEnd = end(bIndex);
+        int count = 0;
+
+        while (i < aEnd && j < bEnd) {
+            long x = targets[i];
+            long y = targets[j];
+            if (x == y) {
+                count++;
+                i++;
+                j++;
+            } else if (x < y) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * 간선은 (출발 ID, 도착 ID) 오름차순으로 추가되어야 합니다.
+     * 조회 쿼리의 정렬 순서를 그대로 이용하므로 별도의 정렬 비용이 들지 않습니다.
+     */
+    public static final class Builder {
+        private long[] nodes = new long[16];
+        private int[] offsets = new int[17];
+        private long[] targets = new long[64];
+        private int nodeSize;
+        private int targetSize;
+
+        private Builder() {
+        }
+
+        public Builder add(long from, long to) {
+            if (nodeSize == 0 || nodes[nodeSize - 1] != from) {
+                if (nodeSize > 0 && nodes[nodeSize - 1] > from) {
+                    throw new IllegalStateException("간선은 출발 ID 오름차순으로 추가되어야 합니다.");
+                }
+                if (nodeSize == nodes.length) {
+                    nodes = Arrays.copyOf(nodes, nodeSize * 2);
+                    offsets = Arrays.copyOf(offsets, nodeSize * 2 + 1);
+                }
+                offsets[nodeSize] = targetSize;
+                nodes[nodeSize++] = from;
+            } else if (targets[targetSize - 1] >= to) {
+                if (targets[targetSize - 1] == to) {
+                    return this;
+                }
+                throw new IllegalStateException("간선은 도착 ID 오름차순으로 추가되어야 합니다.");
+            }
+
+            if (targetSize == targets.length) {
+                targets = Arrays.copyOf(targets, targetSize * 2);
+            }
+            targets[targetSize++] = to;
+            return this;
+        }
+
+        public SortedAdjacency build() {
+            if (nodeSize == 0) {
+                return EMPTY;
+            }
+            int[] builtOffsets = Arrays.copyOf(offsets, nodeSize + 1);
+            builtOffsets[nodeSize] = targetSize;
+            return new SortedAdjacency(
+                    Arrays.copyOf(nodes, nodeSize),
+                    builtOffsets,
+                    Arrays.copyOf(targets, targetSize)
+            );
+        }
+    }
+}
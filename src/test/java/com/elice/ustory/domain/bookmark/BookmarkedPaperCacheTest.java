@@ -0,0 +1,70 @@
+package com.elice.ustory.domain.bookmark;
+
+import com.elice.ustory.domain.bookmark.repository.BookmarkRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BookmarkedPaperCacheTest {
+
+    private BookmarkRepository bookmarkRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private BookmarkedPaperCache bookmarkedPaperCache;
+
+    @BeforeEach
+    void setUp() {
+        bookmarkRepository = mock(BookmarkRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        bookmarkedPaperCache = new BookmarkedPaperCache(bookmarkRepository, stringRedisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void 페이퍼를_북마크한_사용자들의_캐시를_제거한다() {
+        when(bookmarkRepository.findUserIdsByPaperIds(List.of(10L, 11L))).thenReturn(List.of(1L, 2L));
+
+        bookmarkedPaperCache.evictByPaperIds(List.of(10L, 11L));
+
+        verify(stringRedisTemplate).delete(List.of("bookmarkedPapers:1", "bookmarkedPapers:2"));
+    }
+
+    @Test
+    void 트랜잭션_안에서는_커밋_이후에_캐시를_제거한다() {
+        when(bookmarkRepository.findUserIdsByPaperIds(List.of(10L))).thenReturn(List.of(1L));
+        TransactionSynchronizationManager.initSynchronization();
+
+        bookmarkedPaperCache.evictByPaperIds(List.of(10L));
+
+        verify(stringRedisTemplate, never()).delete(anyCollection());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+
+        verify(stringRedisTemplate).delete(List.of("bookmarkedPapers:1"));
+    }
+
+    @Test
+    void 북마크한_사용자가_없으면_Redis를_호출하지_않는다() {
+        when(bookmarkRepository.findUserIdsByPaperIds(List.of(10L))).thenReturn(List.of());
+
+        bookmarkedPaperCache.evictByPaperIds(List.of(10L));
+
+        verify(stringRedisTemplate, never()).delete(anyCollection());
+    }
+}
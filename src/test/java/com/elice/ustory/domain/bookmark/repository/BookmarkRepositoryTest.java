@@ -0,0 +1,115 @@
+package com.elice.ustory.domain.bookmark.repository;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.bookmark.dto.BookmarkListResponse;
+import com.elice.ustory.domain.bookmark.entity.Bookmark;
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class BookmarkRepositoryTest {
+
+    private static final int BOOKMARK_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private BookmarkRepository bookmarkRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        Users user = em.persist(Users.addUserBuilder()
+                .email("user@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("사용자")
+                .nickname("user")
+                .password("password")
+                .build());
+        Diary diary = em.persist(new Diary("껌냥이들", "https://ustory.com/diary.png", DiaryCategory.FRIEND, "설명", Color.RED));
+
+        for (int i = 0; i < BOOKMARK_COUNT; i++) {
+            Paper paper = em.persist(createPaper(user, diary, i));
+            em.persist(new Bookmark(user, paper));
+        }
+        userId = user.getId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 커서로_다음_페이지를_이어서_조회한다() {
+        List<BookmarkListResponse> all = bookmarkRepository.findBookmarkListByUserId(userId, PageRequest.of(0, BOOKMARK_COUNT), null, null);
+        List<BookmarkListResponse> firstPage = bookmarkRepository.findBookmarkListByUserId(userId, PageRequest.of(0, 2), null, null);
+
+        BookmarkListResponse last = firstPage.get(firstPage.size() - 1);
+        List<BookmarkListResponse> nextPage = bookmarkRepository.findBookmarkListByUserId(userId, PageRequest.of(0, 2), last.getBookmarkedAt(), last.getPaperId());
+
+        assertThat(nextPage).extracting(BookmarkListResponse::getPaperId)
+                .containsExactly(all.get(2).getPaperId(), all.get(3).getPaperId());
+    }
+
+    @Test
+    void 마지막으로_본_북마크가_삭제되어도_다음_페이지를_조회한다() {
+        List<BookmarkListResponse> all = bookmarkRepository.findBookmarkListByUserId(userId, PageRequest.of(0, BOOKMARK_COUNT), null, null);
+        List<BookmarkListResponse> firstPage = bookmarkRepository.findBookmarkListByUserId(userId, PageRequest.of(0, 2), null, null);
+        BookmarkListResponse last = firstPage.get(firstPage.size() - 1);
+
+        bookmarkRepository.deleteBookmarkById(userId, last.getPaperId());
+
+        List<BookmarkListResponse> nextPage = bookmarkRepository.findBookmarkListByUserId(userId, PageRequest.of(0, 2), last.getBookmarkedAt(), last.getPaperId());
+
+        assertThat(nextPage).extracting(BookmarkListResponse::getPaperId)
+                .containsExactly(all.get(2).getPaperId(), all.get(3).getPaperId());
+    }
+
+    @Test
+    void 페이퍼를_북마크한_사용자를_중복_없이_조회한다() {
+        List<Long> paperIds = bookmarkRepository.findPaperIdsByUserId(userId);
+
+        assertThat(bookmarkRepository.findUserIdsByPaperIds(paperIds)).containsExactly(userId);
+    }
+
+    private Paper createPaper(Users writer, Diary diary, int index) {
+        Address address = em.persist(Address.createBuilder()
+                .city("서울특별시 마포구 독막로3길 " + index)
+                .store("우규" + index)
+                .coordinateX(37.5494)
+                .coordinateY(126.9169)
+                .build());
+
+        Paper paper = Paper.createBuilder()
+                .title("우규 갔다왔어요 " + index)
+                .thumbnailImageUrl("https://ustory.com/thumbnail" + index + ".jpg")
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+        paper.addWriter(writer);
+        paper.addDiary(diary);
+        paper.setAddress(address);
+        return paper;
+    }
+}
@@ -0,0 +1,119 @@
+package com.elice.ustory.domain.comment.repository;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.comment.dto.CommentList;
+import com.elice.ustory.domain.comment.entity.Comment;
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class CommentRepositoryTest {
+
+    private static final int COMMENT_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    private Long paperId;
+
+    @BeforeEach
+    void setUp() {
+        Users user = em.persist(Users.addUserBuilder()
+                .email("user@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("사용자")
+                .nickname("user")
+                .password("password")
+                .build());
+        Diary diary = em.persist(new Diary("껌냥이들", "https://ustory.com/diary.png", DiaryCategory.FRIEND, "설명", Color.RED));
+        Address address = em.persist(Address.createBuilder()
+                .city("서울특별시 마포구 독막로3길")
+                .store("우규")
+                .coordinateX(37.5494)
+                .coordinateY(126.9169)
+                .build());
+
+        Paper paper = Paper.createBuilder()
+                .title("우규 갔다왔어요")
+                .thumbnailImageUrl("https://ustory.com/thumbnail.jpg")
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+        paper.addWriter(user);
+        paper.addDiary(diary);
+        paper.setAddress(address);
+        em.persist(paper);
+
+        for (int i = 0; i < COMMENT_COUNT; i++) {
+            em.persist(Comment.addCommentBuilder()
+                    .paper(paper)
+                    .user(user)
+                    .content("댓글 " + i)
+                    .build());
+        }
+        paperId = paper.getId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 커서로_다음_댓글을_이어서_조회한다() {
+        List<CommentList> all = commentRepository.findCommentListByPaperId(paperId, null, null, null);
+        List<CommentList> firstPage = commentRepository.findCommentListByPaperId(paperId, null, null, 2);
+
+        CommentList last = firstPage.get(firstPage.size() - 1);
+        List<CommentList> nextPage = commentRepository.findCommentListByPaperId(paperId, last.getCreatedAt(), last.getId(), 2);
+
+        assertThat(nextPage).extracting(CommentList::getId)
+                .containsExactly(all.get(2).getId(), all.get(3).getId());
+    }
+
+    @Test
+    void 마지막으로_본_댓글이_삭제되어도_다음_댓글을_조회한다() {
+        List<CommentList> all = commentRepository.findCommentListByPaperId(paperId, null, null, null);
+        List<CommentList> firstPage = commentRepository.findCommentListByPaperId(paperId, null, null, 2);
+        CommentList last = firstPage.get(firstPage.size() - 1);
+
+        commentRepository.deleteById(last.getId());
+        em.flush();
+
+        List<CommentList> nextPage = commentRepository.findCommentListByPaperId(paperId, last.getCreatedAt(), last.getId(), 2);
+
+        assertThat(nextPage).extracting(CommentList::getId)
+                .containsExactly(all.get(2).getId(), all.get(3).getId());
+    }
+
+    @Test
+    void 삭제된_페이퍼의_댓글은_세지_않는다() {
+        assertThat(commentRepository.countByPaperId(paperId)).isEqualTo(COMMENT_COUNT);
+
+        em.find(Paper.class, paperId).softDelete();
+        em.flush();
+
+        assertThat(commentRepository.countByPaperId(paperId)).isZero();
+        assertThat(commentRepository.findCommentListByPaperId(paperId, null, null, null)).isEmpty();
+    }
+}
@@ -0,0 +1,106 @@
+package com.elice.ustory.domain.diary.service;
+
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RecentDiaryServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String KEY = "recentDiary:" + USER_ID;
+
+    private DiaryUserRepository diaryUserRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private RecentDiaryService recentDiaryService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        diaryUserRepository = mock(DiaryUserRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        recentDiaryService = new RecentDiaryService(diaryUserRepository, stringRedisTemplate);
+    }
+
+    @Test
+    void 다이어리가_없는_사용자는_빈_결과를_캐시한다() {
+        when(diaryUserRepository.findDiaryUpdatedAtByUser(USER_ID)).thenReturn(List.of());
+
+        recentDiaryService.warmUp(USER_ID);
+
+        StringRedisConnection connection = runPipelinedCallback();
+        verify(connection).zAdd(KEY, -1, "empty");
+        verify(connection).expire(eq(KEY), anyLong());
+    }
+
+    @Test
+    void 빈_결과로_캐시된_사용자는_DB_조회_없이_빈_목록을_받는다() {
+        when(zSetOperations.reverseRange(KEY, 0, 4)).thenReturn(Set.of("empty"));
+
+        List<Long> diaryIds = recentDiaryService.getRecentDiaryIds(USER_ID, 5);
+
+        assertThat(diaryIds).isNotNull().isEmpty();
+    }
+
+    @Test
+    void 캐시된_다이어리를_최근_순서대로_반환한다() {
+        Set<String> cached = new LinkedHashSet<>(List.of("3", "1", "2"));
+        when(zSetOperations.reverseRange(KEY, 0, 4)).thenReturn(cached);
+
+        assertThat(recentDiaryService.getRecentDiaryIds(USER_ID, 5)).containsExactly(3L, 1L, 2L);
+    }
+
+    @Test
+    void 캐시가_없으면_null을_반환한다() {
+        when(zSetOperations.reverseRange(KEY, 0, 4)).thenReturn(Set.of());
+
+        assertThat(recentDiaryService.getRecentDiaryIds(USER_ID, 5)).isNull();
+    }
+
+    @Test
+    void 다이어리를_추가하면_빈_결과_멤버를_지운다() {
+        Diary diary = mock(Diary.class);
+        when(diary.getId()).thenReturn(10L);
+        when(diary.getUpdatedAt()).thenReturn(LocalDateTime.now());
+
+        recentDiaryService.addMembers(List.of(USER_ID), diary);
+
+        StringRedisConnection connection = runPipelinedCallback();
+        verify(connection).eval(contains("ZREM"), eq(ReturnType.INTEGER), eq(1),
+                eq(KEY), anyString(), eq("10"), anyString(), anyString(), eq("empty"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private StringRedisConnection runPipelinedCallback() {
+        ArgumentCaptor<RedisCallback<Object>> captor = ArgumentCaptor.forClass(RedisCallback.class);
+        verify(stringRedisTemplate).executePipelined(captor.capture());
+
+        StringRedisConnection connection = mock(StringRedisConnection.class);
+        captor.getValue().doInRedis(connection);
+        return connection;
+    }
+}
@@ -0,0 +1,78 @@
+package com.elice.ustory.domain.diaryUser.repository;
+
+import com.elice.ustory.domain.diary.dto.DiaryList;
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
+import com.elice.ustory.domain.diaryUser.entity.DiaryUserId;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class DiaryUserRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private DiaryUserRepository diaryUserRepository;
+
+    private Long userId;
+    private Long friendDiaryId;
+
+    @BeforeEach
+    void setUp() {
+        Users user = em.persist(Users.addUserBuilder()
+                .email("user@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("사용자")
+                .nickname("user")
+                .password("password")
+                .build());
+        Diary friendDiary = em.persist(new Diary("껌냥이들", "https://ustory.com/friend.png", DiaryCategory.FRIEND, "설명", Color.RED));
+        Diary familyDiary = em.persist(new Diary("우리 가족", "https://ustory.com/family.png", DiaryCategory.FAMILY, "설명", Color.RED));
+        em.persist(new DiaryUser(new DiaryUserId(friendDiary, user)));
+        em.persist(new DiaryUser(new DiaryUserId(familyDiary, user)));
+
+        userId = user.getId();
+        friendDiaryId = friendDiary.getId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 카테고리로_다이어리를_걸러서_조회한다() {
+        List<DiaryList> diaries = diaryUserRepository.searchDiary(userId, PageRequest.of(0, 10), null,
+                DiaryCategory.FRIEND, LocalDateTime.now(), null, false);
+
+        assertThat(diaries).extracting(DiaryList::getId).containsExactly(friendDiaryId);
+        assertThat(diaries).extracting(DiaryList::getDiaryCategory).containsOnly(DiaryCategory.FRIEND);
+    }
+
+    @Test
+    void 카테고리가_없으면_모든_다이어리를_조회한다() {
+        List<DiaryList> diaries = diaryUserRepository.searchDiary(userId, PageRequest.of(0, 10), null,
+                null, LocalDateTime.now(), null, false);
+
+        assertThat(diaries).hasSize(2);
+    }
+}
@@ -0,0 +1,149 @@
+package com.elice.ustory.domain.friend.service;
+
+import com.elice.ustory.domain.diaryUser.repository.DiaryUserRepository;
+import com.elice.ustory.domain.friend.dto.FriendSuggestionDTO;
+import com.elice.ustory.domain.friend.repository.FriendRepository;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.domain.user.repository.UserRepository;
+import com.elice.ustory.global.redis.lock.RedisLock;
+import com.querydsl.core.Tuple;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FriendSuggestionServiceTest {
+
+    private static final Long USER_ID = 1L;
+    private static final String REFRESH_LOCK_KEY = "friendSuggestion:refreshLock";
+
+    private FriendRepository friendRepository;
+    private DiaryUserRepository diaryUserRepository;
+    private UserRepository userRepository;
+    private StringRedisTemplate stringRedisTemplate;
+    private ZSetOperations<String, String> zSetOperations;
+    private RedisLock redisLock;
+    private FriendSuggestionService friendSuggestionService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        friendRepository = mock(FriendRepository.class);
+        diaryUserRepository = mock(DiaryUserRepository.class);
+        userRepository = mock(UserRepository.class);
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        zSetOperations = mock(ZSetOperations.class);
+        redisLock = mock(RedisLock.class);
+        when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+        friendSuggestionService = new FriendSuggestionService(friendRepository, diaryUserRepository, userRepository,
+                stringRedisTemplate, redisLock);
+        ReflectionTestUtils.setField(friendSuggestionService, "topK", 30);
+        ReflectionTestUtils.setField(friendSuggestionService, "ttlHours", 48L);
+    }
+
+    @Test
+    void 캐시가_없으면_주변_관계로_계산하고_저장한다() {
+        // 1 - 2, 1 - 3 친구, 4는 2와 3의 친구, 5는 3의 친구, 1과 4는 같은 다이어리에 속함
+        when(zSetOperations.reverseRangeWithScores(anyString(), anyLong(), anyLong())).thenReturn(Set.of());
+        when(friendRepository.findAcceptedFriendEdgesByUserIds(List.of(1L)))
+                .thenReturn(List.of(edge(1, 2), edge(1, 3)));
+        when(friendRepository.findAcceptedFriendEdgesByUserIds(List.of(1L, 2L, 3L)))
+                .thenReturn(List.of(edge(1, 2), edge(1, 3), edge(2, 1), edge(2, 4), edge(3, 1), edge(3, 4), edge(3, 5)));
+        when(diaryUserRepository.findMembershipEdgesByUserIds(List.of(1L, 4L, 5L)))
+                .thenReturn(List.of(edge(1, 100), edge(4, 100)));
+        when(friendRepository.findRelatedUserIds(USER_ID)).thenReturn(List.of(2L, 3L));
+        when(userRepository.findAllById(List.of(4L, 5L))).thenReturn(List.of(user(4L, "four"), user(5L, "five")));
+
+        List<FriendSuggestionDTO> suggestions = friendSuggestionService.getSuggestions(USER_ID, 10);
+
+        assertThat(suggestions).extracting(FriendSuggestionDTO::getNickname).containsExactly("four", "five");
+        assertThat(suggestions.get(0).getMutualFriendCount()).isEqualTo(2);
+        assertThat(suggestions.get(0).getSharedDiaryCount()).isEqualTo(1);
+        verify(stringRedisTemplate).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void 캐시된_추천에서_이미_관계가_있는_사용자를_제외한다() {
+        Set<ZSetOperations.TypedTuple<String>> cached = new LinkedHashSet<>();
+        cached.add(ZSetOperations.TypedTuple.of("4:2:1", 35.0));
+        cached.add(ZSetOperations.TypedTuple.of("5:1:0", 10.0));
+        when(zSetOperations.reverseRangeWithScores("friendSuggestion:" + USER_ID, 0, -1)).thenReturn(cached);
+        when(friendRepository.findRelatedUserIds(USER_ID)).thenReturn(List.of(4L));
+        when(userRepository.findAllById(List.of(5L))).thenReturn(List.of(user(5L, "five")));
+
+        List<FriendSuggestionDTO> suggestions = friendSuggestionService.getSuggestions(USER_ID, 10);
+
+        assertThat(suggestions).extracting(FriendSuggestionDTO::getNickname).containsExactly("five");
+        verify(friendRepository, never()).findAcceptedFriendEdgesByUserIds(anyCollection());
+        verify(stringRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void 추천_대상이_없다고_캐시된_사용자는_다시_계산하지_않는다() {
+        Set<ZSetOperations.TypedTuple<String>> cached = new LinkedHashSet<>();
+        cached.add(ZSetOperations.TypedTuple.of("empty", -1.0));
+        when(zSetOperations.reverseRangeWithScores("friendSuggestion:" + USER_ID, 0, -1)).thenReturn(cached);
+
+        assertThat(friendSuggestionService.getSuggestions(USER_ID, 10)).isEmpty();
+        verify(friendRepository, never()).findAcceptedFriendEdgesByUserIds(anyCollection());
+    }
+
+    @Test
+    void 락을_잡지_못하면_갱신하지_않는다() {
+        when(redisLock.tryLock(eq(REFRESH_LOCK_KEY), any())).thenReturn(null);
+
+        friendSuggestionService.refreshAllSuggestions();
+
+        verify(friendRepository, never()).findAcceptedFriendEdges(anyLong(), anyLong(), anyInt());
+        verify(redisLock, never()).unlock(anyString(), anyString());
+    }
+
+    @Test
+    void 갱신이_끝나면_자신의_토큰으로_락을_해제한다() {
+        when(redisLock.tryLock(eq(REFRESH_LOCK_KEY), any())).thenReturn("token");
+        when(friendRepository.findAcceptedFriendEdges(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+        when(diaryUserRepository.findMembershipEdges(anyLong(), anyLong(), anyInt())).thenReturn(List.of());
+
+        friendSuggestionService.refreshAllSuggestions();
+
+        verify(redisLock).unlock(REFRESH_LOCK_KEY, "token");
+    }
+
+    private Tuple edge(long from, long to) {
+        Tuple tuple = mock(Tuple.class);
+        when(tuple.get(0, Long.class)).thenReturn(from);
+        when(tuple.get(1, Long.class)).thenReturn(to);
+        return tuple;
+    }
+
+    private Users user(Long id, String nickname) {
+        Users user = Users.addUserBuilder()
+                .email(nickname + "@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name(nickname)
+                .nickname(nickname)
+                .password("password")
+                .build();
+        ReflectionTestUtils.setField(user, "id", id);
+        return user;
+    }
+}
@@ -0,0 +1,59 @@
+package com.elice.ustory.domain.notice.service;
+
+import com.elice.ustory.domain.notice.dto.NoticeResponse;
+import com.elice.ustory.domain.notice.entity.Notice;
+import com.elice.ustory.global.config.QueryDslConfig;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.elice.ustory.global.metrics.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 알림 목록을 응답으로 변환할 때 알림마다 페이퍼를 다시 조회하지 않는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, NoticeService.class})
+class NoticeServiceQueryCountTest {
+
+    private static final long RECEIVER_ID = 1L;
+    private static final int NOTICE_COUNT = 5;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private NoticeService noticeService;
+
+    @Test
+    void 코멘트_알림_목록은_알림_수와_무관하게_1번의_쿼리로_조회한다() {
+        for (long paperId = 1; paperId <= NOTICE_COUNT; paperId++) {
+            em.persist(Notice.builder()
+                    .requestId(paperId)
+                    .responseId(RECEIVER_ID)
+                    .message("코멘트를 남겨주세요.")
+                    .messageType(2)
+                    .build());
+        }
+        em.flush();
+        em.clear();
+
+        List<NoticeResponse> responses = assertMaxQueries(1, () ->
+                noticeService.getAllNoticesByUserId(RECEIVER_ID, LocalDateTime.now(), PageRequest.of(0, 10)));
+
+        assertThat(responses).hasSize(NOTICE_COUNT);
+        assertThat(responses).extracting(NoticeResponse::getPaperId)
+                .containsExactlyInAnyOrder(1L, 2L, 3L, 4L, 5L);
+    }
+}
@@ -0,0 +1,87 @@
+package com.elice.ustory.domain.paper.repository;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class PaperRepositoryTest {
+
+    private static final String THUMBNAIL_URL = "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/images/thumbnail.png";
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PaperRepository paperRepository;
+
+    private Long paperId;
+
+    @BeforeEach
+    void setUp() {
+        Users writer = em.persist(Users.addUserBuilder()
+                .email("writer@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("작성자")
+                .nickname("writer")
+                .password("password")
+                .build());
+        Diary diary = em.persist(new Diary("껌냥이들", "https://ustory.com/diary.png", DiaryCategory.FRIEND, "설명", Color.RED));
+        Address address = em.persist(Address.createBuilder()
+                .city("서울특별시 마포구 독막로3길 21")
+                .store("우규")
+                .coordinateX(37.5494)
+                .coordinateY(126.9169)
+                .build());
+
+        Paper paper = Paper.createBuilder()
+                .title("우규 갔다왔어요.")
+                .thumbnailImageUrl(THUMBNAIL_URL)
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+        paper.addWriter(writer);
+        paper.addDiary(diary);
+        paper.setAddress(address);
+        paperId = em.persist(paper).getId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 썸네일이_그대로라면_변형_이미지_완료로_표시한다() {
+        long updated = paperRepository.markThumbnailVariantsReady(paperId, THUMBNAIL_URL);
+        em.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(em.find(Paper.class, paperId).isThumbnailVariantsReady()).isTrue();
+    }
+
+    @Test
+    void 변환_도중_썸네일이_바뀌었다면_완료로_표시하지_않는다() {
+        long updated = paperRepository.markThumbnailVariantsReady(paperId, "https://ustory-bucket.s3.ap-northeast-2.amazonaws.com/images/old.png");
+        em.clear();
+
+        assertThat(updated).isZero();
+        assertThat(em.find(Paper.class, paperId).isThumbnailVariantsReady()).isFalse();
+    }
+}
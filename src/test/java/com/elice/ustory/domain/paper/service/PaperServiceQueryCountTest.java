@@ -0,0 +1,139 @@
+package com.elice.ustory.domain.paper.service;
+
+import com.elice.ustory.domain.address.Address;
+import com.elice.ustory.domain.bookmark.BookmarkedPaperCache;
+import com.elice.ustory.domain.diary.entity.Color;
+import com.elice.ustory.domain.diary.entity.Diary;
+import com.elice.ustory.domain.diary.entity.DiaryCategory;
+import com.elice.ustory.domain.diary.service.RecentDiaryService;
+import com.elice.ustory.domain.diaryUser.entity.DiaryUser;
+import com.elice.ustory.domain.diaryUser.entity.DiaryUserId;
+import com.elice.ustory.domain.image.Image;
+import com.elice.ustory.domain.notice.repository.NoticeRepository;
+import com.elice.ustory.domain.notice.service.NoticeService;
+import com.elice.ustory.domain.paper.dto.PaperResponse;
+import com.elice.ustory.domain.paper.entity.Paper;
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.QueryDslConfig;
+import com.elice.ustory.global.s3.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDate;
+
+import static com.elice.ustory.global.metrics.QueryCountAssertions.assertMaxQueries;
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이퍼 조회/생성 경로에서 실행되는 SQL 문 개수가 연관 엔티티 수에 비례해 늘어나지 않는지 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({QueryDslConfig.class, PaperService.class, NoticeService.class})
+class PaperServiceQueryCountTest {
+
+    private static final int IMAGE_COUNT = 5;
+    private static final int MEMBER_COUNT = 4;
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private PaperService paperService;
+
+    @Autowired
+    private NoticeRepository noticeRepository;
+
+    @MockBean
+    private RecentDiaryService recentDiaryService;
+
+    @MockBean
+    private PaperThumbnailService paperThumbnailService;
+
+    @MockBean
+    private S3Service s3Service;
+
+    @MockBean
+    private BookmarkedPaperCache bookmarkedPaperCache;
+
+    private Long writerId;
+    private Long paperId;
+
+    @BeforeEach
+    void setUp() {
+        Diary diary = em.persist(new Diary("껌냥이들", "https://ustory.com/diary.png", DiaryCategory.FRIEND, "설명", Color.RED));
+
+        Users writer = null;
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Users member = em.persist(Users.addUserBuilder()
+                    .email("member" + i + "@ustory.com")
+                    .loginType(Users.LoginType.BASIC)
+                    .name("멤버" + i)
+                    .nickname("member" + i)
+                    .password("password")
+                    .build());
+            em.persist(new DiaryUser(new DiaryUserId(diary, member)));
+            if (writer == null) {
+                writer = member;
+            }
+        }
+
+        Address address = em.persist(Address.createBuilder()
+                .city("서울특별시 마포구 독막로3길 21")
+                .store("우규")
+                .coordinateX(37.5494)
+                .coordinateY(126.9169)
+                .build());
+
+        Paper paper = Paper.createBuilder()
+                .title("우규 갔다왔어요.")
+                .thumbnailImageUrl("https://ustory.com/thumbnail.jpg")
+                .visitedAt(LocalDate.of(2024, 5, 23))
+                .build();
+        paper.addWriter(writer);
+        paper.addDiary(diary);
+        paper.setAddress(address);
+        paper.unLock();
+        for (int i = 1; i <= IMAGE_COUNT; i++) {
+            new Image("https://ustory.com/image" + i + ".jpg", i).setPaper(paper);
+        }
+        em.persist(paper);
+
+        writerId = writer.getId();
+        paperId = paper.getId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void PaperResponse_생성은_이미지_수와_무관하게_2번의_쿼리로_끝난다() {
+        // 페이퍼(작성자·다이어리·주소 즉시 로딩) 1번 + 이미지 지연 로딩 1번
+        PaperResponse response = assertMaxQueries(2, () -> {
+            Paper paper = paperService.getPaperById(paperId);
+            return new PaperResponse(paper, false, writerId);
+        });
+
+        assertThat(response.getImageUrls()).hasSize(IMAGE_COUNT);
+    }
+
+    @Test
+    void 코멘트_요청_알림은_멤버_조회_1번과_알림_저장만_실행한다() {
+        Paper paper = em.find(Paper.class, paperId);
+        Diary diary = paper.getDiary();
+        int receivers = MEMBER_COUNT - 1;
+
+        // 멤버 ID 조회 1번 + 작성자를 제외한 멤버별 알림 INSERT
+        assertMaxQueries(1 + receivers, () -> paperService.needCommentNotice(diary, paper));
+
+        assertThat(noticeRepository.count()).isEqualTo(receivers);
+    }
+}
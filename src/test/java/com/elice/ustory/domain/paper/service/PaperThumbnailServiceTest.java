@@ -0,0 +1,186 @@
+package com.elice.ustory.domain.paper.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.PutObjectResult;
+import com.amazonaws.services.s3.model.S3Object;
+import com.elice.ustory.domain.image.ImageRepository;
+import com.elice.ustory.domain.paper.repository.PaperRepository;
+import com.elice.ustory.global.s3.ImageVariant;
+import com.elice.ustory.global.s3.PartBufferPool;
+import com.elice.ustory.global.s3.S3Service;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 메모리 기반 객체 저장소로 S3를 대신해 썸네일 변형 이미지 생성을 검증합니다.
+ */
+class PaperThumbnailServiceTest {
+
+    private static final String BUCKET = "ustory-bucket";
+    private static final String ORIGINAL_KEY = "images/0b6f1e2a-thumbnail.png";
+    private static final String THUMBNAIL_URL = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/" + ORIGINAL_KEY;
+    private static final String IMAGE_KEY = "images/7c1d9a40-image.png";
+    private static final String IMAGE_URL = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/" + IMAGE_KEY;
+    private static final Long PAPER_ID = 1L;
+
+    private final Map<String, byte[]> objectStore = new ConcurrentHashMap<>();
+
+    private PaperRepository paperRepository;
+    private ImageRepository imageRepository;
+    private PaperThumbnailService paperThumbnailService;
+
+    @BeforeEach
+    void setUp() {
+        AmazonS3 amazonS3 = mock(AmazonS3.class);
+        when(amazonS3.getObject(anyString(), anyString())).thenAnswer(invocation -> {
+            byte[] content = objectStore.get(invocation.<String>getArgument(1));
+            if (content == null) {
+                AmazonS3Exception exception = new AmazonS3Exception("The specified key does not exist.");
+                exception.setStatusCode(404);
+                throw exception;
+            }
+            S3Object s3Object = new S3Object();
+            s3Object.setObjectContent(new ByteArrayInputStream(content));
+            return s3Object;
+        });
+        when(amazonS3.putObject(any(PutObjectRequest.class))).thenAnswer(invocation -> {
+            PutObjectRequest request = invocation.getArgument(0);
+            objectStore.put(request.getKey(), request.getInputStream().readAllBytes());
+            return new PutObjectResult();
+        });
+
+        S3Service s3Service = new S3Service(amazonS3, mock(ThreadPoolTaskExecutor.class), new PartBufferPool(1, 0));
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+
+        // 변환 작업을 호출한 스레드에서 바로 실행해 결과를 순서대로 검증한다
+        ThreadPoolTaskExecutor imageVariantExecutor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(imageVariantExecutor).execute(any(Runnable.class));
+
+        paperRepository = mock(PaperRepository.class);
+        imageRepository = mock(ImageRepository.class);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+
+        paperThumbnailService = new PaperThumbnailService(s3Service, paperRepository, imageRepository, transactionTemplate, imageVariantExecutor);
+    }
+
+    @Test
+    void 썸네일의_모든_변형_이미지를_저장하고_완료로_표시한다() throws IOException {
+        objectStore.put(ORIGINAL_KEY, createPng(2000, 1000));
+
+        paperThumbnailService.generateVariants(PAPER_ID, THUMBNAIL_URL);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            byte[] content = objectStore.get(variant.keyOf(ORIGINAL_KEY));
+            assertThat(content).as(variant.getName()).isNotNull();
+
+            BufferedImage resized = ImageIO.read(new ByteArrayInputStream(content));
+            assertThat(resized.getWidth()).isEqualTo(variant.getWidth());
+            assertThat(resized.getHeight()).isEqualTo(variant.getWidth() / 2);
+        }
+        verify(paperRepository).markThumbnailVariantsReady(PAPER_ID, THUMBNAIL_URL);
+    }
+
+    @Test
+    void 원본보다_크게_늘리지_않는다() throws IOException {
+        objectStore.put(ORIGINAL_KEY, createPng(300, 300));
+
+        paperThumbnailService.generateVariants(PAPER_ID, THUMBNAIL_URL);
+
+        BufferedImage detail = ImageIO.read(new ByteArrayInputStream(objectStore.get(ImageVariant.DETAIL.keyOf(ORIGINAL_KEY))));
+        assertThat(detail.getWidth()).isEqualTo(300);
+    }
+
+    @Test
+    void 원본을_읽지_못하면_완료로_표시하지_않는다() {
+        paperThumbnailService.generateVariants(PAPER_ID, THUMBNAIL_URL);
+
+        assertThat(objectStore).isEmpty();
+        verify(paperRepository, never()).markThumbnailVariantsReady(anyLong(), anyString());
+    }
+
+    @Test
+    void 이_버킷의_URL이_아니면_변환하지_않는다() {
+        paperThumbnailService.generateVariants(PAPER_ID, "https://example.com/images/thumbnail.png");
+
+        assertThat(objectStore).isEmpty();
+        verify(paperRepository, never()).markThumbnailVariantsReady(anyLong(), anyString());
+    }
+
+    @Test
+    void 큰_썸네일도_변형_이미지_너비를_맞춘다() throws IOException {
+        objectStore.put(ORIGINAL_KEY, createPng(3000, 100));
+
+        paperThumbnailService.generateVariants(PAPER_ID, THUMBNAIL_URL);
+
+        for (ImageVariant variant : ImageVariant.values()) {
+            BufferedImage resized = ImageIO.read(new ByteArrayInputStream(objectStore.get(variant.keyOf(ORIGINAL_KEY))));
+            assertThat(resized.getWidth()).as(variant.getName()).isEqualTo(variant.getWidth());
+        }
+        verify(paperRepository).markThumbnailVariantsReady(PAPER_ID, THUMBNAIL_URL);
+    }
+
+    @Test
+    void 페이퍼_이미지는_상세용_변형_이미지만_저장하고_완료로_표시한다() throws IOException {
+        objectStore.put(IMAGE_KEY, createPng(2000, 1000));
+
+        paperThumbnailService.generateImageVariants(PAPER_ID, List.of(IMAGE_URL));
+
+        BufferedImage detail = ImageIO.read(new ByteArrayInputStream(objectStore.get(ImageVariant.DETAIL.keyOf(IMAGE_KEY))));
+        assertThat(detail.getWidth()).isEqualTo(ImageVariant.DETAIL.getWidth());
+        assertThat(objectStore).doesNotContainKey(ImageVariant.LIST.keyOf(IMAGE_KEY));
+        verify(imageRepository).markDetailVariantReady(PAPER_ID, IMAGE_URL);
+    }
+
+    @Test
+    void 페이퍼_이미지를_읽지_못하면_완료로_표시하지_않는다() {
+        paperThumbnailService.generateImageVariants(PAPER_ID, List.of(IMAGE_URL));
+
+        assertThat(objectStore).isEmpty();
+        verify(imageRepository, never()).markDetailVariantReady(anyLong(), anyString());
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.ORANGE);
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+}
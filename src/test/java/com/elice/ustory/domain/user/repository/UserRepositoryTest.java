@@ -0,0 +1,63 @@
+package com.elice.ustory.domain.user.repository;
+
+import com.elice.ustory.domain.user.entity.Users;
+import com.elice.ustory.global.config.QueryDslConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(QueryDslConfig.class)
+class UserRepositoryTest {
+
+    private static final String OLD_HASH = "$2a$10$oldhash";
+    private static final String NEW_HASH = "$2a$12$newhash";
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        userId = em.persist(Users.addUserBuilder()
+                .email("user@ustory.com")
+                .loginType(Users.LoginType.BASIC)
+                .name("사용자")
+                .nickname("user")
+                .password(OLD_HASH)
+                .build()).getId();
+        em.flush();
+        em.clear();
+    }
+
+    @Test
+    void 저장된_해시가_그대로라면_비밀번호를_바꾼다() {
+        int updated = userRepository.updatePasswordIfUnchanged(userId, OLD_HASH, NEW_HASH);
+        em.clear();
+
+        assertThat(updated).isEqualTo(1);
+        assertThat(em.find(Users.class, userId).getPassword()).isEqualTo(NEW_HASH);
+    }
+
+    @Test
+    void 그사이_비밀번호가_바뀌었다면_덮어쓰지_않는다() {
+        int updated = userRepository.updatePasswordIfUnchanged(userId, "$2a$10$changed", NEW_HASH);
+        em.clear();
+
+        assertThat(updated).isZero();
+        assertThat(em.find(Users.class, userId).getPassword()).isEqualTo(OLD_HASH);
+    }
+}
@@ -0,0 +1,135 @@
+package com.elice.ustory.domain.user.service;
+
+import com.elice.ustory.domain.user.entity.EmailConfig;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 로컬 SMTP 서버(GreenMail)를 띄워 비동기 메일 발송과 재시도를 검증합니다.
+ */
+class EmailServiceTest {
+
+    private static final String FROM_EMAIL = "noreply@ustory.com";
+    private static final String TO_EMAIL = "user@ustory.com";
+    private static final String TITLE = "[US:tory] 인증 메일";
+    private static final String CONTENT = "<p>인증 코드: ABC123</p>";
+    private static final int MAX_ATTEMPTS = 3;
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private JavaMailSenderImpl mailSender;
+    private ThreadPoolTaskExecutor mailExecutor;
+    private ThreadPoolTaskScheduler mailRetryScheduler;
+    private EmailService emailService;
+
+    @BeforeEach
+    void setUp() {
+        JavaMailSenderImpl sender = new JavaMailSenderImpl();
+        sender.setHost(ServerSetupTest.SMTP.getBindAddress());
+        sender.setPort(ServerSetupTest.SMTP.getPort());
+        mailSender = spy(sender);
+
+        mailExecutor = new ThreadPoolTaskExecutor();
+        mailExecutor.setCorePoolSize(2);
+        mailExecutor.setMaxPoolSize(2);
+        mailExecutor.setThreadNamePrefix("mail-");
+        mailExecutor.initialize();
+
+        mailRetryScheduler = new ThreadPoolTaskScheduler();
+        mailRetryScheduler.setPoolSize(1);
+        mailRetryScheduler.setThreadNamePrefix("mail-retry-");
+        mailRetryScheduler.initialize();
+
+        EmailConfig emailConfig = mock(EmailConfig.class);
+        when(emailConfig.getUsername()).thenReturn(FROM_EMAIL);
+
+        emailService = new EmailService(mailSender, null, null, null, null, emailConfig,
+                mailExecutor, mailRetryScheduler, null, null, new SimpleMeterRegistry());
+        ReflectionTestUtils.invokeMethod(emailService, "init");
+        ReflectionTestUtils.setField(emailService, "maxAttempts", MAX_ATTEMPTS);
+        ReflectionTestUtils.setField(emailService, "backoffMillis", 50L);
+    }
+
+    @AfterEach
+    void tearDown() {
+        mailRetryScheduler.shutdown();
+        mailExecutor.shutdown();
+    }
+
+    @Test
+    void 메일이_SMTP_서버로_발송된다() throws Exception {
+        emailService.sendMailAsync(TO_EMAIL, TITLE, CONTENT);
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        MimeMessage received = greenMail.getReceivedMessages()[0];
+        assertThat(received.getSubject()).isEqualTo(TITLE);
+        assertThat(received.getAllRecipients()[0].toString()).isEqualTo(TO_EMAIL);
+        assertThat(received.getFrom()[0].toString()).isEqualTo(FROM_EMAIL);
+    }
+
+    @Test
+    void 발송에_실패하면_backoff_후_다시_시도한다() {
+        doThrow(new MailSendException("SMTP 연결 실패"))
+                .doCallRealMethod()
+                .when(mailSender).send(any(MimeMessage.class));
+
+        emailService.sendMailAsync(TO_EMAIL, TITLE, CONTENT);
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 1)).isTrue();
+        verify(mailSender, times(2)).send(any(MimeMessage.class));
+    }
+
+    @Test
+    void 최대_시도_횟수를_넘기면_더_이상_시도하지_않는다() {
+        doThrow(new MailSendException("SMTP 연결 실패"))
+                .when(mailSender).send(any(MimeMessage.class));
+
+        emailService.sendMailAsync(TO_EMAIL, TITLE, CONTENT);
+
+        verify(mailSender, timeout(5000).times(MAX_ATTEMPTS)).send(any(MimeMessage.class));
+        verify(mailSender, after(500).times(MAX_ATTEMPTS)).send(any(MimeMessage.class));
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+    }
+
+    @Test
+    void backoff_동안_메일_스레드를_점유하지_않는다() {
+        ReflectionTestUtils.setField(emailService, "backoffMillis", 60_000L);
+        doThrow(new MailSendException("SMTP 연결 실패"))
+                .doCallRealMethod()
+                .when(mailSender).send(any(MimeMessage.class));
+
+        emailService.sendMailAsync(TO_EMAIL, TITLE, CONTENT);
+
+        // 첫 시도가 실패한 뒤 재시도는 1분 뒤로 예약되어 있고, 그동안 mailExecutor는 비어 있어야 한다
+        verify(mailSender, timeout(5000).times(1)).send(any(MimeMessage.class));
+        await().atMost(Duration.ofSeconds(1))
+                .until(() -> mailExecutor.getActiveCount() == 0);
+        assertThat(mailRetryScheduler.getScheduledThreadPoolExecutor().getQueue()).hasSize(1);
+    }
+}
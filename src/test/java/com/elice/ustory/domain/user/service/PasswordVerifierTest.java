@@ -0,0 +1,74 @@
+package com.elice.ustory.domain.user.service;
+
+import com.elice.ustory.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class PasswordVerifierTest {
+
+    private static final String RAW_PASSWORD = "ustory1234!";
+    private static final Long USER_ID = 1L;
+
+    private final BCryptPasswordEncoder passwordEncoder = new BCryptPasswordEncoder(5);
+    private ThreadPoolTaskExecutor passwordVerifyExecutor;
+    private UserRepository userRepository;
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        passwordVerifyExecutor = mock(ThreadPoolTaskExecutor.class);
+        userRepository = mock(UserRepository.class);
+        passwordVerifier = new PasswordVerifier(passwordEncoder, passwordVerifyExecutor, userRepository);
+    }
+
+    @Test
+    void 작업_계수가_낮은_해시는_재해싱_대상이다() {
+        String weakHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+        String currentHash = passwordEncoder.encode(RAW_PASSWORD);
+
+        assertThat(passwordVerifier.needsRehash(weakHash)).isTrue();
+        assertThat(passwordVerifier.needsRehash(currentHash)).isFalse();
+    }
+
+    @Test
+    void 재해싱은_executor에서_수행하고_기존_해시일_때만_저장한다() {
+        // executor에 넘겨진 작업을 바로 실행한다
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(passwordVerifyExecutor).execute(any(Runnable.class));
+        String weakHash = new BCryptPasswordEncoder(4).encode(RAW_PASSWORD);
+
+        passwordVerifier.rehashAsync(USER_ID, RAW_PASSWORD, weakHash);
+
+        ArgumentCaptor<String> newHash = ArgumentCaptor.forClass(String.class);
+        verify(userRepository).updatePasswordIfUnchanged(eq(USER_ID), eq(weakHash), newHash.capture());
+        assertThat(passwordEncoder.matches(RAW_PASSWORD, newHash.getValue())).isTrue();
+        assertThat(passwordVerifier.needsRehash(newHash.getValue())).isFalse();
+    }
+
+    @Test
+    void 대기열이_가득_차면_로그인을_실패시키지_않고_재해싱을_미룬다() {
+        doThrow(new TaskRejectedException("full")).when(passwordVerifyExecutor).execute(any(Runnable.class));
+
+        assertThatCode(() -> passwordVerifier.rehashAsync(USER_ID, RAW_PASSWORD, "hash"))
+                .doesNotThrowAnyException();
+        verify(userRepository, never()).updatePasswordIfUnchanged(anyLong(), anyString(), anyString());
+    }
+}
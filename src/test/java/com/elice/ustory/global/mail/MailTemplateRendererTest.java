@@ -0,0 +1,51 @@
+package com.elice.ustory.global.mail;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MailTemplateRendererTest {
+
+    private MailTemplateRenderer mailTemplateRenderer;
+
+    @BeforeEach
+    void setUp() {
+        mailTemplateRenderer = new MailTemplateRenderer();
+        ReflectionTestUtils.invokeMethod(mailTemplateRenderer, "init");
+    }
+
+    @Test
+    void 인증_코드를_치환한다() {
+        String content = mailTemplateRenderer.render(MailTemplate.SIGNUP, Map.of("authCode", "123456"));
+
+        assertThat(content).contains("<code>123456</code>")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void 치환_값은_HTML_이스케이프한다() {
+        String content = mailTemplateRenderer.render(MailTemplate.SIGNUP, Map.of("authCode", "<b>&\"'"));
+
+        assertThat(content).contains("&lt;b&gt;&amp;&quot;&#39;");
+    }
+
+    @Test
+    void 없는_변수는_빈_문자열로_치환한다() {
+        String content = mailTemplateRenderer.render(MailTemplate.CHANGE_PASSWORD, Map.of());
+
+        assertThat(content).contains("<code></code>");
+    }
+
+    @Test
+    void 회원가입과_비밀번호_변경_메일은_본문이_다르다() {
+        Map<String, String> values = Map.of("authCode", "123456");
+
+        assertThat(mailTemplateRenderer.render(MailTemplate.CHANGE_PASSWORD, values))
+                .isNotEqualTo(mailTemplateRenderer.render(MailTemplate.SIGNUP, values))
+                .contains("비밀번호 변경");
+    }
+}
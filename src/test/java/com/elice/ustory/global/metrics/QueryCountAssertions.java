@@ -0,0 +1,38 @@
+package com.elice.ustory.global.metrics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 컨트롤러/서비스 호출 한 번에 실행되는 SQL 문 개수의 상한을 검증합니다.
+ * 호출과 같은 스레드에서 {@link QueryCounter}로 집계하므로, 지연 로딩까지 확인하려면 영속성 컨텍스트를 비운 뒤 호출합니다.
+ */
+public class QueryCountAssertions {
+
+    private QueryCountAssertions() {
+    }
+
+    public static <T> T assertMaxQueries(long max, Supplier<T> action) {
+        T result;
+        long count;
+        QueryCounter.start();
+        try {
+            result = action.get();
+        } finally {
+            count = QueryCounter.stop();
+        }
+
+        assertThat(count)
+                .as("실행된 SQL 문 개수")
+                .isLessThanOrEqualTo(max);
+        return result;
+    }
+
+    public static void assertMaxQueries(long max, Runnable action) {
+        assertMaxQueries(max, () -> {
+            action.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,85 @@
+package com.elice.ustory.global.redis.lock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RedisLockTest {
+
+    private static final String LOCK_KEY = "test:lock";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(1);
+
+    private StringRedisTemplate stringRedisTemplate;
+    private ValueOperations<String, String> valueOperations;
+    private RedisLock redisLock;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        stringRedisTemplate = mock(StringRedisTemplate.class);
+        valueOperations = mock(ValueOperations.class);
+        when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+        redisLock = new RedisLock(stringRedisTemplate);
+    }
+
+    @Test
+    void 락을_잡으면_저장한_토큰을_반환한다() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(LOCK_TTL))).thenReturn(true);
+
+        String token = redisLock.tryLock(LOCK_KEY, LOCK_TTL);
+
+        ArgumentCaptor<String> stored = ArgumentCaptor.forClass(String.class);
+        verify(valueOperations).setIfAbsent(eq(LOCK_KEY), stored.capture(), eq(LOCK_TTL));
+        assertThat(token).isNotBlank().isEqualTo(stored.getValue());
+    }
+
+    @Test
+    void 락마다_다른_토큰을_저장한다() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(LOCK_TTL))).thenReturn(true);
+
+        assertThat(redisLock.tryLock(LOCK_KEY, LOCK_TTL)).isNotEqualTo(redisLock.tryLock(LOCK_KEY, LOCK_TTL));
+    }
+
+    @Test
+    void 이미_잡힌_락이면_null을_반환한다() {
+        when(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), eq(LOCK_TTL))).thenReturn(false);
+
+        assertThat(redisLock.tryLock(LOCK_KEY, LOCK_TTL)).isNull();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 해제는_키를_직접_지우지_않고_토큰을_비교하는_스크립트로_한다() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq("token"))).thenReturn(1L);
+
+        assertThat(redisLock.unlock(LOCK_KEY, "token")).isTrue();
+
+        ArgumentCaptor<RedisScript<Long>> script = ArgumentCaptor.forClass(RedisScript.class);
+        verify(stringRedisTemplate).execute(script.capture(), eq(List.of(LOCK_KEY)), eq("token"));
+        assertThat(script.getValue().getScriptAsString()).contains("GET", "DEL");
+        verify(stringRedisTemplate, never()).delete(anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void 토큰이_다르면_해제하지_못한다() {
+        when(stringRedisTemplate.execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), eq("other"))).thenReturn(0L);
+
+        assertThat(redisLock.unlock(LOCK_KEY, "other")).isFalse();
+    }
+}
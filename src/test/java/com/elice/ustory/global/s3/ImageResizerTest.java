@@ -0,0 +1,109 @@
+package com.elice.ustory.global.s3;
+
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.CRC32;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ImageResizerTest {
+
+    private static final int MAX_WIDTH = 1080;
+
+    @Test
+    void 해상도가_상한을_넘으면_디코딩하지_않는다() throws IOException {
+        // 헤더만 12000x12000으로 선언한 PNG, 실제로 디코딩하면 ARGB 기준 약 576MB가 필요하다
+        byte[] content = createPngHeader(12000, 12000);
+
+        assertThatThrownBy(() -> ImageResizer.read(content, MAX_WIDTH))
+                .isInstanceOf(IOException.class)
+                .hasMessageContaining("12000x12000");
+    }
+
+    @Test
+    void 큰_이미지는_필요한_너비만큼만_줄여서_읽는다() throws IOException {
+        byte[] content = createPng(3000, 100);
+
+        BufferedImage image = ImageResizer.read(content, MAX_WIDTH);
+
+        assertThat(image.getWidth()).isBetween(MAX_WIDTH, MAX_WIDTH * 2);
+        assertThat(ImageIO.read(new ByteArrayInputStream(ImageResizer.resizeToJpeg(image, MAX_WIDTH))).getWidth())
+                .isEqualTo(MAX_WIDTH);
+    }
+
+    @Test
+    void 작은_이미지는_원본_그대로_읽는다() throws IOException {
+        BufferedImage image = ImageResizer.read(createPng(300, 200), MAX_WIDTH);
+
+        assertThat(image.getWidth()).isEqualTo(300);
+        assertThat(image.getHeight()).isEqualTo(200);
+    }
+
+    @Test
+    void 이미지가_아니면_예외가_발생한다() {
+        byte[] content = "not an image".getBytes(StandardCharsets.UTF_8);
+
+        assertThatThrownBy(() -> ImageResizer.read(content, MAX_WIDTH))
+                .isInstanceOf(IOException.class);
+    }
+
+    private byte[] createPng(int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D graphics = image.createGraphics();
+        try {
+            graphics.setColor(Color.ORANGE);
+            graphics.fillRect(0, 0, width, height);
+        } finally {
+            graphics.dispose();
+        }
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", outputStream);
+        return outputStream.toByteArray();
+    }
+
+    /**
+     * 시그니처, IHDR, IEND 청크만 가진 PNG
+     * ImageReader가 헤더에서 해상도를 읽을 수 있으며, 픽셀 데이터는 없다.
+     */
+    private byte[] createPngHeader(int width, int height) throws IOException {
+        ByteArrayOutputStream ihdr = new ByteArrayOutputStream();
+        DataOutputStream ihdrData = new DataOutputStream(ihdr);
+        ihdrData.writeInt(width);
+        ihdrData.writeInt(height);
+        ihdrData.writeByte(8); // bit depth
+        ihdrData.writeByte(6); // RGBA
+        ihdrData.writeByte(0); // compression
+        ihdrData.writeByte(0); // filter
+        ihdrData.writeByte(0); // interlace
+
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        DataOutputStream png = new DataOutputStream(outputStream);
+        png.write(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1a, '\n'});
+        writeChunk(png, "IHDR", ihdr.toByteArray());
+        writeChunk(png, "IEND", new byte[0]);
+        return outputStream.toByteArray();
+    }
+
+    private void writeChunk(DataOutputStream png, String type, byte[] data) throws IOException {
+        byte[] typeBytes = type.getBytes(StandardCharsets.US_ASCII);
+        CRC32 crc = new CRC32();
+        crc.update(typeBytes);
+        crc.update(data);
+
+        png.writeInt(data.length);
+        png.write(typeBytes);
+        png.write(data);
+        png.writeInt((int) crc.getValue());
+    }
+}
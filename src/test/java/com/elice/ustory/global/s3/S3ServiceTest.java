@@ -0,0 +1,266 @@
+package com.elice.ustory.global.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
+import com.elice.ustory.global.exception.model.PayloadTooLargeException;
+import com.elice.ustory.global.exception.model.TooManyRequestsException;
+import com.elice.ustory.global.exception.model.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.AfterEach;
+import org.mockito.ArgumentCaptor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * PreSigned URL 발급과 서버 경유 업로드를 검증합니다.
+ * 서명은 로컬 연산이므로 가짜 자격 증명과 로컬 엔드포인트를 가진 실제 S3 클라이언트로 네트워크 없이 확인합니다.
+ */
+class S3ServiceTest {
+
+    private static final String BUCKET = "ustory-bucket";
+    private static final int MB = 1024 * 1024;
+
+    private ThreadPoolTaskExecutor s3CheckExecutor;
+    private S3Service s3Service;
+
+    @BeforeEach
+    void setUp() {
+        s3CheckExecutor = new ThreadPoolTaskExecutor();
+        s3CheckExecutor.setCorePoolSize(2);
+        s3CheckExecutor.setMaxPoolSize(2);
+        s3CheckExecutor.setThreadNamePrefix("s3-check-");
+        s3CheckExecutor.initialize();
+
+        AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test-access-key", "test-secret-key")))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration("http://localhost:9000", "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .build();
+
+        s3Service = new S3Service(amazonS3, s3CheckExecutor, new PartBufferPool(1, 0));
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+    }
+
+    @AfterEach
+    void tearDown() {
+        s3CheckExecutor.shutdown();
+    }
+
+    @Test
+    void 여러_파일의_PreSigned_URL을_요청_순서대로_발급한다() throws Exception {
+        List<String> fileNames = List.of("paper1.png", "paper2.jpg", "paper3.JPEG");
+
+        List<String> urls = s3Service.getPresignedUrls("images", fileNames);
+
+        assertThat(urls).hasSize(fileNames.size());
+        for (int i = 0; i < fileNames.size(); i++) {
+            URL url = new URL(urls.get(i));
+            assertThat(url.getPath()).startsWith("/" + BUCKET + "/images/");
+            assertThat(url.getPath()).endsWith("-" + fileNames.get(i));
+            assertThat(url.getQuery()).contains("Signature=");
+            assertThat(url.getQuery()).contains("x-amz-acl=public-read");
+        }
+    }
+
+    @Test
+    void 같은_파일명이라도_서로_다른_object_key로_발급한다() {
+        List<String> urls = s3Service.getPresignedUrls("images", List.of("paper.png", "paper.png"));
+
+        assertThat(urls.get(0)).isNotEqualTo(urls.get(1));
+    }
+
+    @Test
+    void 파일명_목록에_null이_있으면_ValidationException을_던진다() {
+        List<String> fileNames = Arrays.asList("paper1.png", null);
+
+        assertThatThrownBy(() -> s3Service.getPresignedUrls("images", fileNames))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void 지원하지_않는_확장자가_있으면_ValidationException을_던진다() {
+        assertThatThrownBy(() -> s3Service.getPresignedUrls("images", List.of("paper1.png", "paper2.bmp")))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void 작은_이미지는_한_번에_업로드한다() throws Exception {
+        AmazonS3 amazonS3 = mockUploadClient();
+        S3Service uploadService = createUploadService(amazonS3);
+
+        uploadService.uploadImage("images", "paper.png", new ByteArrayInputStream(new byte[MB]), MB);
+
+        verify(amazonS3).putObject(any(PutObjectRequest.class));
+        verify(amazonS3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+    }
+
+    @Test
+    void 큰_이미지는_고정_크기_part로_나누어_업로드한다() throws Exception {
+        AmazonS3 amazonS3 = mockUploadClient();
+        S3Service uploadService = createUploadService(amazonS3);
+        List<Long> partSizes = new ArrayList<>();
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            partSizes.add((long) request.getInputStream().readAllBytes().length);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+
+        int size = 12 * MB;
+        uploadService.uploadImage("images", "paper.png", new ByteArrayInputStream(new byte[size]), size);
+
+        assertThat(partSizes).containsExactly(5L * MB, 5L * MB, 2L * MB);
+        ArgumentCaptor<CompleteMultipartUploadRequest> captor = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(amazonS3).completeMultipartUpload(captor.capture());
+        assertThat(captor.getValue().getPartETags()).hasSize(3);
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void part_업로드에_실패하면_multipart_upload를_취소한다() {
+        AmazonS3 amazonS3 = mockUploadClient();
+        PartBufferPool partBufferPool = new PartBufferPool(1, 0);
+        S3Service uploadService = createUploadService(amazonS3, partBufferPool);
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenThrow(new AmazonS3Exception("part 업로드 실패"));
+
+        int size = 6 * MB;
+        InputStream inputStream = new ByteArrayInputStream(new byte[size]);
+
+        assertThatThrownBy(() -> uploadService.uploadImage("images", "paper.png", inputStream, size))
+                .isInstanceOf(AmazonS3Exception.class);
+        verify(amazonS3).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        assertThat(partBufferPool.available()).isEqualTo(1);
+    }
+
+    @Test
+    void 여러_번_업로드해도_풀의_버퍼를_돌려받아_재사용한다() throws Exception {
+        AmazonS3 amazonS3 = mockUploadClient();
+        mockUploadPart(amazonS3);
+        PartBufferPool partBufferPool = new PartBufferPool(1, 0);
+        S3Service uploadService = createUploadService(amazonS3, partBufferPool);
+
+        int size = 6 * MB;
+        for (int i = 0; i < 3; i++) {
+            uploadService.uploadImage("images", "paper.png", new ByteArrayInputStream(new byte[size]), size);
+        }
+
+        verify(amazonS3, times(3)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+        assertThat(partBufferPool.available()).isEqualTo(1);
+    }
+
+    @Test
+    void 풀의_버퍼가_모두_사용_중이면_TooManyRequestsException을_던진다() {
+        AmazonS3 amazonS3 = mockUploadClient();
+        PartBufferPool partBufferPool = new PartBufferPool(1, 0);
+        S3Service uploadService = createUploadService(amazonS3, partBufferPool);
+        byte[] inUse = partBufferPool.acquire();
+
+        int size = 6 * MB;
+        InputStream inputStream = new ByteArrayInputStream(new byte[size]);
+
+        try {
+            assertThatThrownBy(() -> uploadService.uploadImage("images", "paper.png", inputStream, size))
+                    .isInstanceOf(TooManyRequestsException.class);
+            verify(amazonS3, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+        } finally {
+            partBufferPool.release(inUse);
+        }
+    }
+
+    @Test
+    void 제한보다_큰_이미지는_PayloadTooLargeException을_던진다() {
+        AmazonS3 amazonS3 = mockUploadClient();
+        S3Service uploadService = createUploadService(amazonS3);
+        long size = 21L * MB;
+
+        assertThatThrownBy(() -> uploadService.uploadImage("images", "paper.png", InputStream.nullInputStream(), size))
+                .isInstanceOf(PayloadTooLargeException.class);
+        verify(amazonS3, never()).putObject(any(PutObjectRequest.class));
+    }
+
+    @Test
+    void 업로드되지_않은_이미지가_있으면_ValidationException을_던진다() {
+        AmazonS3 amazonS3 = mockUploadClient();
+        S3Service uploadService = createUploadService(amazonS3);
+        when(amazonS3.doesObjectExist(eq(BUCKET), anyString())).thenReturn(true);
+        when(amazonS3.doesObjectExist(BUCKET, "images/missing.png")).thenReturn(false);
+        String bucketUrl = "https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/";
+
+        assertThatThrownBy(() -> uploadService.validateUploaded(List.of(bucketUrl + "images/uploaded.png", bucketUrl + "images/missing.png")))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("images/missing.png");
+    }
+
+    @Test
+    void 다른_호스트의_URL은_확인하지_않는다() {
+        AmazonS3 amazonS3 = mockUploadClient();
+        S3Service uploadService = createUploadService(amazonS3);
+
+        uploadService.validateUploaded(List.of("https://example.com/images/paper.png"));
+
+        verify(amazonS3, never()).doesObjectExist(anyString(), anyString());
+    }
+
+    private AmazonS3 mockUploadClient() {
+        AmazonS3 amazonS3 = mock(AmazonS3.class);
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload-id");
+        when(amazonS3.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        when(amazonS3.getUrl(anyString(), anyString())).thenAnswer(invocation ->
+                new URL("https://" + BUCKET + ".s3.ap-northeast-2.amazonaws.com/" + invocation.getArgument(1)));
+        return amazonS3;
+    }
+
+    private void mockUploadPart(AmazonS3 amazonS3) {
+        when(amazonS3.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag-" + request.getPartNumber());
+            return result;
+        });
+    }
+
+    private S3Service createUploadService(AmazonS3 amazonS3) {
+        return createUploadService(amazonS3, new PartBufferPool(1, 0));
+    }
+
+    private S3Service createUploadService(AmazonS3 amazonS3, PartBufferPool partBufferPool) {
+        S3Service uploadService = new S3Service(amazonS3, s3CheckExecutor, partBufferPool);
+        ReflectionTestUtils.setField(uploadService, "bucket", BUCKET);
+        ReflectionTestUtils.setField(uploadService, "maxUploadSize", 20L * MB);
+        return uploadService;
+    }
+}
@@ -0,0 +1,51 @@
+package com.elice.ustory.global.s3.dto;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PresignedUrlsRequestTest {
+
+    private static ValidatorFactory validatorFactory;
+    private static Validator validator;
+
+    @BeforeAll
+    static void setUp() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+        validator = validatorFactory.getValidator();
+    }
+
+    @AfterAll
+    static void tearDown() {
+        validatorFactory.close();
+    }
+
+    @Test
+    void 파일명_목록이_올바르면_통과한다() {
+        PresignedUrlsRequest request = new PresignedUrlsRequest(List.of("paper1.png", "paper2.jpg"));
+
+        assertThat(validator.validate(request)).isEmpty();
+    }
+
+    @Test
+    void null이나_빈_파일명이_있으면_거절한다() {
+        PresignedUrlsRequest request = new PresignedUrlsRequest(Arrays.asList("paper1.png", null, " "));
+
+        assertThat(validator.validate(request)).hasSize(2);
+    }
+
+    @Test
+    void 파일명이_없거나_20개를_넘으면_거절한다() {
+        assertThat(validator.validate(new PresignedUrlsRequest(List.of()))).hasSize(1);
+        assertThat(validator.validate(new PresignedUrlsRequest(Collections.nCopies(21, "paper.png")))).hasSize(1);
+    }
+}
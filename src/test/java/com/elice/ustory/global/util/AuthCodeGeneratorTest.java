@@ -0,0 +1,29 @@
+package com.elice.ustory.global.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuthCodeGeneratorTest {
+
+    @Test
+    void 숫자와_영문자로_이루어진_6자리_코드를_만든다() {
+        for (int i = 0; i < 1000; i++) {
+            assertThat(AuthCodeGenerator.generate()).matches("[0-9A-Za-z]{6}");
+        }
+    }
+
+    @Test
+    void 호출마다_다른_코드를_만든다() {
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            codes.add(AuthCodeGenerator.generate());
+        }
+
+        // 62^6 가지 중 1000개를 뽑으므로 중복이 거의 나오지 않는다
+        assertThat(codes).hasSizeGreaterThan(990);
+    }
+}